@@ -0,0 +1,166 @@
+import greenfoot.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decodes the game's big images on background threads while the player is in
+ * the menus, so entering SingleplayerPlaying and opening a minigame for the
+ * first time do not stall the Greenfoot thread.
+ *
+ * Sprites go into ImageCache with the exact size/transform the game asks for,
+ * and the ship map tiles around the spawn point are queued on the shared
+ * TiledMap's decoder. start() is called from MainMenu and only runs once;
+ * getProgress() feeds the LoadingBar.
+ */
+public class AssetPreloader
+{
+    // Map area decoded up front: the view around the spawn point plus a margin
+    private static final int SPAWN_X = 1789 / 2;
+    private static final int SPAWN_Y = 765;
+    private static final int MAP_MARGIN = 256;
+
+    private static ExecutorService workers;
+    private static int totalTasks = 0;
+    private static final AtomicInteger doneTasks = new AtomicInteger();
+    private static final AtomicInteger failedTasks = new AtomicInteger();
+
+    private AssetPreloader() {}
+
+    /** Starts preloading on worker threads. Calling it again does nothing. */
+    public static synchronized void start()
+    {
+        if (workers != null) return;
+
+        List<Runnable> tasks = new ArrayList<>();
+        addImageTasks(tasks);
+        addMapTasks(tasks);
+        totalTasks = tasks.size();
+
+        int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+        workers = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "AssetPreloader");
+            t.setDaemon(true);                    // never keeps the JVM alive
+            t.setPriority(Thread.MIN_PRIORITY);   // the menu stays responsive
+            return t;
+        });
+
+        for (Runnable task : tasks)
+        {
+            workers.execute(() -> {
+                try
+                {
+                    task.run();
+                }
+                catch (RuntimeException e)
+                {
+                    // A missing asset only means it gets loaded (or fails) later, as before
+                    failedTasks.incrementAndGet();
+                    System.out.println("AssetPreloader: " + e.getMessage());
+                }
+                finally
+                {
+                    doneTasks.incrementAndGet();
+                }
+            });
+        }
+        workers.shutdown();
+    }
+
+    /** 0.0 .. 1.0; 0 before start(). */
+    public static synchronized double getProgress()
+    {
+        if (totalTasks == 0) return (workers != null) ? 1.0 : 0.0;
+        return doneTasks.get() / (double)totalTasks;
+    }
+
+    public static synchronized boolean isDone()
+    {
+        return workers != null && doneTasks.get() >= totalTasks;
+    }
+
+    public static int getFailedCount()
+    {
+        return failedTasks.get();
+    }
+
+    // ======================= ASSET LIST =======================
+
+    /** Same file, size and transform as the constructors that use them. */
+    private static void addImageTasks(List<Runnable> tasks)
+    {
+        // Minigame panels and backgrounds
+        image(tasks, "panelboard.png", 700, 500);
+        image(tasks, "panelboard.png", 600, 300);
+        image(tasks, "panelboard.png", 520, 380);
+        image(tasks, "panelboard.png", 450, 350);
+        image(tasks, "capgame_bg.png", 650, 450);
+        image(tasks, "enggame_bg.png", 675, 467);
+        image(tasks, "button1.png", 200, 60);
+        image(tasks, "button1.png", 40, 40);
+
+        // Tutorial pictures
+        image(tasks, "capgame_tuto.png", 400, 285);
+        image(tasks, "enggame_tuto.png", 375, 267);
+        image(tasks, "fishgame_tuto.png", 160, 150);
+        image(tasks, "fishgame_tuto2.png", 160, 150);
+        image(tasks, "fishgame_tuto3.png", 160, 150);
+        image(tasks, "biogame_tuto.png", 350, 220);
+        image(tasks, "biogame_tuto2.png", 350, 220);
+        image(tasks, "yellow-arrow.png", 80, 50);
+        image(tasks, "yellow-arrow.png", 128, 80);
+        for (String key : new String[] { "W.png", "A.png", "S.png", "D.png", "E.png" })
+            image(tasks, key, 50, 50);
+        image(tasks, "E.png", 60, 60);
+        image(tasks, "Mouse.png", 70, 70);
+
+        // Ship map actors
+        image(tasks, "CaptainTrigger.png", 90, 106);
+        image(tasks, "EngineerTrigger.png", 140, 81);
+        image(tasks, "FishermanTrigger.png", 137, 122);
+        image(tasks, "BiologistTrigger.png", 235, 110);
+        image(tasks, "middoor.png", 69, 167);
+        tasks.add(() -> ImageCache.get("blue-arrow.png", 100, 60, false, 225));
+        tasks.add(() -> ImageCache.get("blue-arrow.png", 100, 60, false, 90));
+        tasks.add(() -> ImageCache.get("blue-arrow.png", 100, 60, false, 45));
+
+        // Captain minigame sprites
+        image(tasks, "boattopdown2.png", 120, 36);
+        image(tasks, "rockstopdown.png", 50, 50);
+        image(tasks, "goalfish.png", 70, 40);
+
+        // Jack's walk frames, both directions
+        String[] frames = { "jack_move1.png", "jack_move2.png", "jack_move3.png", "jack_move4.png", "jack_move5.png" };
+        int[] widths = { 35, 42, 50, 37, 50 };
+        for (int i = 0; i < frames.length; i++)
+        {
+            String file = frames[i];
+            int w = widths[i];
+            tasks.add(() -> ImageCache.get(file, w, 100));
+            tasks.add(() -> ImageCache.get(file, w, 100, true, 0));
+        }
+    }
+
+    private static void image(List<Runnable> tasks, String file, int w, int h)
+    {
+        tasks.add(() -> ImageCache.get(file, w, h));
+    }
+
+    /**
+     * The map tiles under the first view. TiledMap decodes them on its own
+     * thread; the task only waits for them so the progress bar is honest, and
+     * the renderer never waits on either.
+     */
+    private static void addMapTasks(List<Runnable> tasks)
+    {
+        TiledMap map = SingleplayerPlaying.getSharedMap();
+
+        int x = SPAWN_X - SingleplayerPlaying.VIEW_WIDTH / 2 - MAP_MARGIN;
+        int y = SPAWN_Y - SingleplayerPlaying.VIEW_HEIGHT / 2 - MAP_MARGIN;
+        int w = SingleplayerPlaying.VIEW_WIDTH + 2 * MAP_MARGIN;
+        int h = SingleplayerPlaying.VIEW_HEIGHT + 2 * MAP_MARGIN;
+        tasks.add(() -> map.prefetch(x, y, w, h).join());
+    }
+}
@@ -10,8 +10,7 @@ public class BiologistClass extends PlayerClass
 {
     public BiologistClass()
     {
-        GreenfootImage img = new GreenfootImage("biologist.png");
-        img.scale(150, 150);   // <- resize here
+        GreenfootImage img = ImageCache.get("biologist.png", 150, 150);
         setImage(img);
     }
 }
@@ -2,6 +2,8 @@ import greenfoot.*;
 
 public class BiologistDraggableFish extends Actor
 {
+    private static final FrameProfiler.Stage PROFILE = FrameProfiler.stage("act:BiologistDraggableFish");
+
     private final BiologistMinigameController controller;
     private boolean dragging = false;
     private boolean draggable = true;
@@ -50,23 +52,29 @@ public class BiologistDraggableFish extends Actor
     }
 
     public void act()
+    {
+        FrameProfiler.begin(PROFILE);
+        handleDrag();
+        FrameProfiler.end(PROFILE);
+    }
+
+    private void handleDrag()
     {
         if (!draggable) return;
         if (controller == null) return;
 
-        MouseInfo mi = Greenfoot.getMouseInfo();
-        if (mi == null) return;
+        if (!GameInput.hasMouse()) return;
 
-        if (Greenfoot.mousePressed(this))
+        if (GameInput.mousePressed(this))
         {
             dragging = true;
         }
 
         if (dragging)
         {
-            setLocation(mi.getX(), mi.getY());
+            setLocation(GameInput.getMouseX(), GameInput.getMouseY());
 
-            if (Greenfoot.mouseDragEnded(this) || Greenfoot.mouseClicked(null))
+            if (GameInput.mouseDragEnded(this) || GameInput.mouseClicked(null))
             {
                 dragging = false;
                 controller.onFishDropped(getX(), getY());
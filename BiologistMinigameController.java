@@ -3,10 +3,10 @@ import java.util.*;
 
 public class BiologistMinigameController
 {
-    // ===== REOPEN COOLDOWN (optional like others) =====
-    private static int reopenCooldown = 0;
-    public static boolean canReopen() { return reopenCooldown == 0; }
-    public static void tickReopenTimer() { if (reopenCooldown > 0) reopenCooldown--; }
+    // ===== REOPEN COOLDOWN (optional like others, GameClock) =====
+    private static final long REOPEN_COOLDOWN_MS = 500;
+    private static TimerWheel.Timer reopenCooldown = null;
+    public static boolean canReopen() { return !GameClock.isPending(reopenCooldown); }
 
     private final World world;
     private PanelBoard board;
@@ -16,23 +16,23 @@ public class BiologistMinigameController
     private static enum Phase { FIGURE_OUT, DECIDE_FATE }
     private static Phase savedPhase = Phase.FIGURE_OUT;
     private static FishermanFishData.FishAttempt savedCurrent = null;
-    private static int savedSetSeed = 0;
+    private static long savedSetSeed = 0;   // 0 = no set rolled yet
 
     // ===== Runtime state =====
     private Phase phase;
     private FishermanFishData.FishAttempt current;
-    private Random rng;
+    private final GameRandom.Stream rng = new GameRandom.Stream(0);
 
     // Runs after the current message finishes displaying
     private Runnable pendingAfterMessage = null;
 
-    // If true, update() will re-render AFTER the message ends
+    // If true, endMessage() will re-render AFTER the message ends
     private boolean pendingRender = false;
 
     // UI refs
     private Text headerText;
     private Text messageText;
-    private int messageTimer = 0;
+    private TimerWheel.Timer messageTimer;   // hides the current message (GameClock)
     private Text instructionText;
 
     private BiologistDraggableFish fishActor;
@@ -51,16 +51,15 @@ public class BiologistMinigameController
     }
     private final ResultListener listener;
 
+    // Open JFR minigame event, committed when the minigame closes
+    private GameEvents.Minigame minigameEvent;
+
     public BiologistMinigameController(World world, PanelBoard board, ResultListener listener)
     {
         this.world = world;
         this.board = board;
         this.listener = listener;
 
-        board.attachControllerAdapter(new PanelBoard.ControllerAdapter() {
-            public void update() { BiologistMinigameController.this.update(); }
-        });
-
         if (!MinigameLock.tryLock())
         {
             board.destroy();
@@ -69,8 +68,12 @@ public class BiologistMinigameController
 
         MinigameLock.registerForceClose(() -> {
             finished = true;
+            GameEvents.minigameClosed(minigameEvent, GameEvents.OUTCOME_FORCED);
+            minigameEvent = null;
             cleanup();
         });
+
+        minigameEvent = GameEvents.minigameOpened("Biologist");
         
         setupOrRestoreState();
 
@@ -104,9 +107,9 @@ public class BiologistMinigameController
         }
 
         if (savedSetSeed == 0)
-            savedSetSeed = (int)(System.currentTimeMillis() & 0x7fffffff);
+            savedSetSeed = newSetSeed();
 
-        this.rng = new Random(savedSetSeed);
+        rng.setSeed(savedSetSeed);
     }
 
     private void renderEmptyPanelMessage()
@@ -170,7 +173,7 @@ public class BiologistMinigameController
         List<FishSpecies> all = new ArrayList<>();
         all.add(correctSpecies);
         all.addAll(decoys);
-        Collections.shuffle(all, rng);
+        rng.shuffle(all);
         optionSpecies = all.toArray(new FishSpecies[0]);
 
         fishActor = new BiologistDraggableFish(correctSpecies.imageFile, this);
@@ -191,11 +194,11 @@ public class BiologistMinigameController
         }
     }
 
-    private List<FishSpecies> pickDecoys(FishSpecies correct, int count, Random rng)
+    private List<FishSpecies> pickDecoys(FishSpecies correct, int count, GameRandom.Stream rng)
     {
         List<FishSpecies> pool = new ArrayList<>(FishermanFishData.getAllSpecies());
         pool.remove(correct);
-        Collections.shuffle(pool, rng);
+        rng.shuffle(pool);
 
         if (pool.size() < count) return pool;
         return pool.subList(0, count);
@@ -209,7 +212,7 @@ public class BiologistMinigameController
         if (optionSpecies == null) return;
         if (zones == null) return;
         if (phase != Phase.FIGURE_OUT) return;
-        if (messageTimer > 0) return; // optional: prevents spamming while message is showing
+        if (GameClock.isPending(messageTimer)) return; // optional: prevents spamming while message is showing
 
         for (int i = 0; i < zones.length; i++)
         {
@@ -231,7 +234,7 @@ public class BiologistMinigameController
                     showMessage(
                         "Correct! (+" + reward + "$)",
                         Color.GREEN,
-                        60,
+                        1000,
                         -board.getHalfWidth()/2 + 20,
                         -80
                     );
@@ -241,10 +244,10 @@ public class BiologistMinigameController
                 }
                 else
                 {
-                    savedSetSeed = (int)(System.currentTimeMillis() & 0x7fffffff);
-                    rng = new Random(savedSetSeed);
+                    savedSetSeed = newSetSeed();
+                    rng.setSeed(savedSetSeed);
 
-                    showMessage("Wrong. Try again.", Color.RED, 90, -board.getHalfWidth()/2 + 20, -80);
+                    showMessage("Wrong. Try again.", Color.RED, 1500, -board.getHalfWidth()/2 + 20, -80);
 
                     pendingAfterMessage = null;
                     pendingRender = true;
@@ -296,7 +299,7 @@ public class BiologistMinigameController
     {
         if (finished) return;
         if (phase != Phase.DECIDE_FATE) return;
-        if (messageTimer > 0) return;
+        if (GameClock.isPending(messageTimer)) return;
 
         FishermanFishData.logBiologistRelease(); 
         
@@ -305,8 +308,8 @@ public class BiologistMinigameController
 
         boolean bad = isEndangered(current.fish) || isTooSmall(current);
 
-        if (bad) showMessage("Released an illegal fish. (-" + value + "$)", Color.GREEN, 120, 0, -100);
-        else     showMessage("Released a legal fish. (-" + value + "$)", Color.RED, 120, 0, -100);
+        if (bad) showMessage("Released an illegal fish. (-" + value + "$)", Color.GREEN, 2000, 0, -100);
+        else     showMessage("Released a legal fish. (-" + value + "$)", Color.RED, 2000, 0, -100);
 
         pendingAfterMessage = () -> consumeCurrentAndContinue();
         pendingRender = true;
@@ -316,7 +319,7 @@ public class BiologistMinigameController
     {
         if (finished) return;
         if (phase != Phase.DECIDE_FATE) return;
-        if (messageTimer > 0) return;
+        if (GameClock.isPending(messageTimer)) return;
 
         int value = current.value;
         boolean bad = isEndangered(current.fish) || isTooSmall(current);
@@ -324,11 +327,11 @@ public class BiologistMinigameController
         if (bad)
         {
             MoneyDisplay.addMoney(-(value * 2));
-            showMessage("That's illegal! (-" + (value * 2) + "$)", Color.RED, 120, 0, -100);
+            showMessage("That's illegal! (-" + (value * 2) + "$)", Color.RED, 2000, 0, -100);
         }
         else
         {
-            showMessage("Stored. Next Fish...", Color.GREEN, 120, 0, -100);
+            showMessage("Stored. Next Fish...", Color.GREEN, 2000, 0, -100);
         }
 
         pendingAfterMessage = () -> consumeCurrentAndContinue();
@@ -357,8 +360,16 @@ public class BiologistMinigameController
         phase = Phase.FIGURE_OUT;
         savedPhase = phase;
 
-        savedSetSeed = (int)(System.currentTimeMillis() & 0x7fffffff);
-        rng = new Random(savedSetSeed);
+        savedSetSeed = newSetSeed();
+        rng.setSeed(savedSetSeed);
+    }
+
+    /** Seed of a new option set, drawn from the session so replays roll the same sets. */
+    private static long newSetSeed()
+    {
+        long seed;
+        do seed = GameRandom.BIOLOGIST.nextLong(); while (seed == 0);
+        return seed;
     }
 
     // ===========================
@@ -378,7 +389,7 @@ public class BiologistMinigameController
             "Threat status: " + f.threatStatus;
     }
 
-    private String buildPartialStatsText(FishSpecies f, Random rng)
+    private String buildPartialStatsText(FishSpecies f, GameRandom.Stream rng)
     {
         List<String> fields = new ArrayList<>();
         fields.add("Rarity: " + f.rarity.label);
@@ -387,7 +398,7 @@ public class BiologistMinigameController
         fields.add("Habitat: " + f.habitat);
         fields.add("Diet: " + f.diet);
 
-        Collections.shuffle(fields, rng);
+        rng.shuffle(fields);
 
         return fields.get(0) + "\n" + fields.get(1) + "\n" + fields.get(2);
     }
@@ -401,12 +412,13 @@ public class BiologistMinigameController
             board.removeContent(messageText);
 
         messageText = null;
-        messageTimer = 0;
+        GameClock.cancel(messageTimer);
+        messageTimer = null;
         pendingAfterMessage = null;
         pendingRender = false;
     }
 
-    private void showMessage(String msg, Color c, int frames, int offsetX, int offsetY)
+    private void showMessage(String msg, Color c, long millis, int offsetX, int offsetY)
     {
         if (board == null) return;
         if (board.getWorld() == null) return;
@@ -417,57 +429,55 @@ public class BiologistMinigameController
         messageText = new Text(msg, 26, c, true);
         board.addContent(messageText, offsetX, offsetY);
     
-        messageTimer = frames;
+        GameClock.cancel(messageTimer);
+        messageTimer = GameClock.after(millis, this::endMessage);
     }
     
-    private void showMessage(String msg, Color c, int frames)
+    private void showMessage(String msg, Color c, long millis)
     {
-        showMessage(msg, c, frames, 0, 0);
+        showMessage(msg, c, millis, 0, 0);
     }
 
-    public void update()
+    /** Fired by messageTimer (GameClock) when the message has been shown long enough. */
+    private void endMessage()
     {
+        messageTimer = null;
+
         if (board == null) return;
         if (board.getWorld() == null) return;
         if (current == null) return;
 
-        if (messageTimer > 0)
-        {
-            messageTimer--;
-
-            if (messageTimer == 0)
-            {
-                // Always remove message when timer ends
-                if (messageText != null && messageText.getWorld() != null)
-                    board.removeContent(messageText);
-                messageText = null;
+        // Always remove message when timer ends
+        if (messageText != null && messageText.getWorld() != null)
+            board.removeContent(messageText);
+        messageText = null;
 
-                // Run deferred action (phase 2 consume)
-                if (pendingAfterMessage != null)
-                {
-                    Runnable r = pendingAfterMessage;
-                    pendingAfterMessage = null;
-                    r.run();
-                }
+        // Run deferred action (phase 2 consume)
+        if (pendingAfterMessage != null)
+        {
+            Runnable r = pendingAfterMessage;
+            pendingAfterMessage = null;
+            r.run();
+        }
 
-                // Re-render if requested
-                if (pendingRender)
-                {
-                    pendingRender = false;
+        // Re-render if requested
+        if (pendingRender)
+        {
+            pendingRender = false;
 
-                    // consumeCurrentAndContinue() might already have rendered the empty panel
-                    if (current != null)
-                        renderCurrentPhase();
-                }
-            }
+            // consumeCurrentAndContinue() might already have rendered the empty panel
+            if (current != null)
+                renderCurrentPhase();
         }
     }
 
     private void closeFromSystem()
     {
+        GameEvents.minigameClosed(minigameEvent, GameEvents.OUTCOME_COMPLETED);
+        minigameEvent = null;
         cleanup();
         MinigameLock.setLocked(false);
-        reopenCooldown = 30;
+        reopenCooldown = GameClock.cooldown(REOPEN_COOLDOWN_MS);
 
         if (listener != null)
             listener.onBiologistDone();
@@ -475,12 +485,14 @@ public class BiologistMinigameController
 
     private void closeFromPlayer()
     {
+        GameEvents.minigameClosed(minigameEvent, GameEvents.OUTCOME_CANCELLED);
+        minigameEvent = null;
         savedPhase = phase;
         savedCurrent = current;
 
         cleanup();
         MinigameLock.setLocked(false);
-        reopenCooldown = 30;
+        reopenCooldown = GameClock.cooldown(REOPEN_COOLDOWN_MS);
         
         TutorialController.onBiologistMinigameClosed(world);
     }
@@ -488,6 +500,7 @@ public class BiologistMinigameController
     private void cleanup()
     {
         finished = true;
+        GameClock.cancel(messageTimer);
     
         optionSpecies = null;
         zones = null;
@@ -502,8 +515,6 @@ public class BiologistMinigameController
 
     private class EscListener extends Actor
     {
-        private boolean escConsumed = false;
-
         public EscListener()
         {
             setImage(new GreenfootImage(1, 1));
@@ -511,16 +522,8 @@ public class BiologistMinigameController
 
         public void act()
         {
-            boolean escDown = Greenfoot.isKeyDown("escape");
-            if (!escDown)
-            {
-                escConsumed = false;
-                return;
-            }
-            if (escConsumed) return;
-
-            escConsumed = true;
-            closeFromPlayer();
+            if (GameInput.isActionPressed(GameAction.BACK))
+                closeFromPlayer();
         }
     }
 }
\ No newline at end of file
@@ -1,107 +1,53 @@
 import greenfoot.*;
-import java.util.List;
 
-public class BiologistMinigameTrigger extends Actor
+public class BiologistMinigameTrigger extends Actor implements MapAnchored, Interactable
 {
     private int worldX, worldY;
     private int activationDistance = 40;
-    private boolean canUseKey = true;
 
     private GreenfootImage visibleImg;
     private GreenfootImage hiddenImg;
-    private boolean isVisibleNow = false;
 
     public BiologistMinigameTrigger(int worldX, int worldY)
     {
         this.worldX = worldX;
         this.worldY = worldY;
 
-        visibleImg = new GreenfootImage("BiologistTrigger.png");
-        visibleImg.scale(235, 110);
+        visibleImg = ImageCache.get("BiologistTrigger.png", 235, 110);
 
         hiddenImg = new GreenfootImage(1, 1);
         setImage(hiddenImg);
     }
 
+    public int getWorldX() { return worldX; }
+    public int getWorldY() { return worldY; }
+
     public void updateScreenPosition(SingleplayerPlaying world)
     {
         setLocation(world.worldToScreenX(worldX), world.worldToScreenY(worldY));
     }
 
-    public void act()
+    public int getActivationDistance() { return activationDistance; }
+
+    public boolean isInteractionEnabled()
     {
-        updateVisibility();
-        checkInteraction();
+        return !TutorialController.isTutorialMode() || TutorialController.allowBiologistTrigger();
     }
 
-    private void updateVisibility()
+    public void setHighlighted(boolean highlighted)
     {
-        World w = getWorld();
-        if (!(w instanceof SingleplayerPlaying)) return;
-
-        if (TutorialController.isTutorialMode() && !TutorialController.allowBiologistTrigger())
-        {
-            if (isVisibleNow)
-            {
-                setImage(hiddenImg);
-                isVisibleNow = false;
-            }
-            return;
-        }
-
-        List<ControllablePlayer> players = w.getObjects(ControllablePlayer.class);
-        if (players == null || players.isEmpty()) return;
-
-        ControllablePlayer player = players.get(0);
-
-        int dx = player.getX() - getX();
-        int dy = player.getY() - getY();
-        double dist = Math.sqrt(dx*dx + dy*dy);
-
-        boolean should = dist <= activationDistance;
+        setImage(highlighted ? visibleImg : hiddenImg);
+    }
 
-        if (should != isVisibleNow)
-        {
-            setImage(should ? visibleImg : hiddenImg);
-            isVisibleNow = should;
-        }
+    public boolean canInteract()
+    {
+        if (!TutorialController.allowBiologistTrigger()) return false;
+        if (MinigameLock.isLocked()) return false;
+        return BiologistMinigameController.canReopen();
     }
 
-    private void checkInteraction()
+    public void interact(World w)
     {
-        World w = getWorld();
-        if (!(w instanceof SingleplayerPlaying)) return;
-        
-        if (!TutorialController.allowBiologistTrigger()) return;
-    
-        if (MinigameLock.isLocked()) return;
-        if (!BiologistMinigameController.canReopen()) return;
-    
-        List<ControllablePlayer> players = w.getObjects(ControllablePlayer.class);
-        if (players == null || players.isEmpty()) return;
-    
-        ControllablePlayer player = players.get(0);
-    
-        int dx = player.getX() - getX();
-        int dy = player.getY() - getY();
-        double dist = Math.sqrt(dx*dx + dy*dy);
-    
-        if (dist > activationDistance)
-        {
-            canUseKey = true;
-            return;
-        }
-    
-        boolean eDown = Greenfoot.isKeyDown("e");
-        if (!eDown)
-        {
-            canUseKey = true;
-            return;
-        }
-    
-        if (!canUseKey) return;
-        canUseKey = false;
-    
         openMinigame(w);
     }
 
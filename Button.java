@@ -1,7 +1,10 @@
 import greenfoot.*;
+import java.awt.image.BufferedImage;
 
 public class Button extends Actor
 {
+    private static final FrameProfiler.Stage PROFILE = FrameProfiler.stage("act:Button");
+
     private String label;
     private int fontSize;
     private Runnable action;
@@ -14,6 +17,9 @@ public class Button extends Actor
     private boolean leftAligned = false;
     private boolean hoverEnabled = true;
 
+    private static final int HOVER_DARKEN = 60;
+    private static final String HOVER_VARIANT = "hover-darken-" + HOVER_DARKEN;
+
     // ───────────────────── CONSTRUCTORS ─────────────────────
 
     public Button(String label, int fontSize, String imageFile, int width, int height, Runnable action) {
@@ -36,30 +42,12 @@ public class Button extends Actor
         this.leftAligned = leftAligned;
         this.hoverEnabled = hoverEnabled;
 
-        // 1. Setup Main Image
-        image = new GreenfootImage(imageFile);
-        if (width > 0 && height > 0) {
-            image.scale(width, height);
-        }
-
-        // 2. Prepare hover image
-        hoverImage = new GreenfootImage(image.getWidth(), image.getHeight());
-
-        for (int x = 0; x < image.getWidth(); x++) {
-            for (int y = 0; y < image.getHeight(); y++) {
-                Color color = image.getColorAt(x, y);
-
-                if (color.getAlpha() > 0) {
-                    int darken = 60;
-
-                    int r = Math.max(0, color.getRed() - darken);
-                    int g = Math.max(0, color.getGreen() - darken);
-                    int b = Math.max(0, color.getBlue() - darken);
+        // 1. Setup Main Image (shared cached image: only ever copied, never drawn on)
+        image = ImageCache.get(imageFile, width, height);
 
-                    hoverImage.setColorAt(x, y, new Color(r, g, b, color.getAlpha()));
-                }
-            }
-        }
+        // 2. Hover image: darkened copy in ImageCache, shared by every button with the same image
+        hoverImage = ImageCache.getVariant(imageFile, width, height, HOVER_VARIANT,
+                                           img -> darken(img, HOVER_DARKEN));
 
         updateImage(false);
     }
@@ -78,6 +66,47 @@ public class Button extends Actor
         this(label, fontSize, imageFile, width, height, action, leftAligned, hoverEnabled);
     }
 
+    public String getLabel() {
+        return label;
+    }
+
+    public void setLabel(String label) {
+        if (label.equals(this.label)) return;
+        this.label = label;
+        updateImage(isMouseOver);
+    }
+
+    public void setAction(Runnable action) {
+        this.action = action;
+    }
+
+    // ─────────────────── HOVER IMAGE ───────────────────
+
+    /** Copy of image with every visible pixel's RGB lowered by amount, done on the whole pixel array at once. */
+    private static GreenfootImage darken(GreenfootImage image, int amount) {
+        int w = image.getWidth();
+        int h = image.getHeight();
+
+        int[] px = image.getAwtImage().getRGB(0, 0, w, h, null, 0, w);
+
+        for (int i = 0; i < px.length; i++) {
+            int argb = px[i];
+            int a = argb >>> 24;
+            if (a == 0) continue; // fully transparent pixels stay as they are
+
+            int r = Math.max(0, ((argb >> 16) & 0xFF) - amount);
+            int g = Math.max(0, ((argb >> 8) & 0xFF) - amount);
+            int b = Math.max(0, (argb & 0xFF) - amount);
+
+            px[i] = (a << 24) | (r << 16) | (g << 8) | b;
+        }
+
+        GreenfootImage hover = new GreenfootImage(w, h);
+        BufferedImage out = hover.getAwtImage();
+        out.setRGB(0, 0, w, h, px, 0, w);
+        return hover;
+    }
+
     // ─────────────────── IMAGE + TEXT RENDERING ───────────────────
 
     private void updateImage(boolean hovered) {
@@ -107,11 +136,16 @@ public class Button extends Actor
     // ───────────────────────── ACT LOOP ─────────────────────────
 
     public void act() {
-        MouseInfo mouse = Greenfoot.getMouseInfo();
-        if (mouse == null) return;
+        FrameProfiler.begin(PROFILE);
+        handleMouse();
+        FrameProfiler.end(PROFILE);
+    }
+
+    private void handleMouse() {
+        if (!GameInput.hasMouse()) return;
 
-        int mx = mouse.getX();
-        int my = mouse.getY();
+        int mx = GameInput.getMouseX();
+        int my = GameInput.getMouseY();
         int bx = getX();
         int by = getY();
         int w = getImage().getWidth();
@@ -133,7 +167,7 @@ public class Button extends Actor
         }
 
         // Clicking still works
-        if (currentlyOver && Greenfoot.mouseClicked(null)) {
+        if (currentlyOver && GameInput.mouseClicked(null)) {
             if (action != null) action.run();
         }
     }
@@ -5,14 +5,20 @@ import java.util.List;
 /**
  * Boat controlled in the Captain minigame.
  * Moves inside a PanelBoard using WASD or arrow keys.
+ * Moved by the world's SimulationLoop: fixed steps, interpolated drawing.
  */
-public class CaptainBoat extends Actor
+public class CaptainBoat extends Actor implements Simulated
 {
     private PanelBoard board;
     private CaptainMinigameController controller;
 
-    // Speed in pixels per frame
-    private int speed = 4;
+    // Speed in pixels per second of game time
+    private double speed = 240.0;
+
+    // Simulated position (screen coordinates) and the one before the last step
+    private double posX, posY;
+    private double prevX, prevY;
+    private boolean hasPos = false;
     
     private CollisionBox collisionBox;
 
@@ -24,7 +30,8 @@ public class CaptainBoat extends Actor
 
     // Simple message system for "You crashed..." / "You arrived"
     private Text messageActor;
-    private int messageTimer = 0;  // frames remaining
+    private TimerWheel.Timer messageTimer;  // hides the message (GameClock)
+    private static final long MESSAGE_MILLIS = 1500;
 
     public CaptainBoat(PanelBoard board, CaptainMinigameController controller)
     {
@@ -32,22 +39,37 @@ public class CaptainBoat extends Actor
         this.controller = controller;
 
         // TODO: replace with your actual top-down boat sprite name
-        GreenfootImage img = new GreenfootImage("boattopdown2.png");
-        img.scale(120, 36);
+        GreenfootImage img = ImageCache.get("boattopdown2.png", 120, 36);
         setImage(img);
     }
     
-    public void act()
+    /** One fixed simulation step, run by the world's SimulationLoop. */
+    @Override
+    public void step(double dt)
     {
+        if (getWorld() == null) return;
+
+        if (!hasPos)
+        {
+            posX = getX();
+            posY = getY();
+            hasPos = true;
+        }
+        prevX = posX;
+        prevY = posY;
+
         if (board == null || controller == null || controller.isFinished())
             return;
     
-        updateMessage(); // update timer FIRST, so unlock can happen ASAP
-    
         if (!movementLocked)
         {
-            handleMovement();
+            handleMovement(dt);
         }
+
+        // Collide at the simulated position, not where the boat was last drawn
+        setLocation((int)Math.round(posX), (int)Math.round(posY));
+        if (collisionBox != null)
+            collisionBox.syncToOwner();
     
         // --- ROCK COLLISIONS ---
         CollisionBox box = collisionBox.getOneIntersectingPublic(CollisionBox.class);
@@ -66,17 +88,27 @@ public class CaptainBoat extends Actor
         }
     }
 
+    /** Draws the boat between its last two simulated positions. */
+    @Override
+    public void render(double alpha)
+    {
+        if (!hasPos || getWorld() == null) return;
+
+        setLocation((int)Math.round(prevX + (posX - prevX) * alpha),
+                    (int)Math.round(prevY + (posY - prevY) * alpha));
+    }
+
     // ========================= MOVEMENT =========================
 
-    private void handleMovement()
+    private void handleMovement(double dt)
     {
         int dx = 0;
         int dy = 0;
     
-        if (Greenfoot.isKeyDown("a") || Greenfoot.isKeyDown("left"))  dx -= speed;
-        if (Greenfoot.isKeyDown("d") || Greenfoot.isKeyDown("right")) dx += speed;
-        if (Greenfoot.isKeyDown("w") || Greenfoot.isKeyDown("up"))    dy -= speed;
-        if (Greenfoot.isKeyDown("s") || Greenfoot.isKeyDown("down"))  dy += speed;
+        if (GameInput.isActionDown(GameAction.MOVE_LEFT))  dx -= 1;
+        if (GameInput.isActionDown(GameAction.MOVE_RIGHT)) dx += 1;
+        if (GameInput.isActionDown(GameAction.ASCEND))     dy -= 1;
+        if (GameInput.isActionDown(GameAction.DESCEND))    dy += 1;
     
         if (dx == 0 && dy == 0)
             return;
@@ -84,8 +116,8 @@ public class CaptainBoat extends Actor
         // NEW: rotate to match movement direction (includes diagonals)
         faceDirection(dx, dy);
     
-        int newX = getX() + dx;
-        int newY = getY() + dy;
+        double newX = posX + dx * speed * dt;
+        double newY = posY + dy * speed * dt;
     
         // Clamp so the boat never leaves the inside of the PanelBoard
         if (board != null)
@@ -104,7 +136,8 @@ public class CaptainBoat extends Actor
             if (newY > bottom) newY = bottom;
         }
     
-        setLocation(newX, newY);
+        posX = newX;
+        posY = newY;
     }
 
     private boolean boardAlive()
@@ -146,21 +179,24 @@ public class CaptainBoat extends Actor
     
         messageActor = new Text(text, 28, Color.RED, true);
     
-        // Show it for ~1.5 seconds (90 frames at 60 FPS)
-        messageTimer = 90;
+        // Show it for 1.5 seconds
+        GameClock.cancel(messageTimer);
+        messageTimer = GameClock.after(MESSAGE_MILLIS, this::endMessage);
     
         // Add in the center of the board
         board.addContent(messageActor, 0, 0);
     }
 
-    private void updateMessage()
+    /** Fired by messageTimer: hides the message and gives movement back. */
+    private void endMessage()
     {
-        if (messageTimer <= 0)
+        messageTimer = null;
+
+        // Minigame already resolved: leave everything as it is
+        if (board == null || controller == null || controller.isFinished())
             return;
-    
-        messageTimer--;
-    
-        if (messageTimer == 0 && messageActor != null)
+
+        if (messageActor != null)
         {
             if (messageActor.getWorld() != null && board != null)
             {
@@ -10,8 +10,7 @@ public class CaptainClass extends PlayerClass
 {
     public CaptainClass()
     {
-        GreenfootImage img = new GreenfootImage("captain.png");
-        img.scale(175, 175);   // <- resize here
+        GreenfootImage img = ImageCache.get("captain.png", 175, 175);
         setImage(img);
     }
 }
@@ -8,8 +8,7 @@ public class CaptainGameBackground extends Actor
 {
     public CaptainGameBackground()
     {
-        GreenfootImage img = new GreenfootImage("capgame_bg.png");
-        img.scale(650, 450);
+        GreenfootImage img = ImageCache.get("capgame_bg.png", 650, 450);
         setImage(img);
     }
 
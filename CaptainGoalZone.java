@@ -10,8 +10,8 @@ public class CaptainGoalZone extends Actor
 {
     public CaptainGoalZone()
     {
-        GreenfootImage img = new GreenfootImage("goalfish.png");
-        img.scale(70, 40);
+        // Own copy: the cached image is shared and must stay opaque
+        GreenfootImage img = new GreenfootImage(ImageCache.get("goalfish.png", 70, 40));
 
         img.setTransparency(180);
 
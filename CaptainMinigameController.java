@@ -30,20 +30,16 @@ public class CaptainMinigameController
     }
 
     // ====== REOPEN COOL-DOWN (used by CaptainMinigameTrigger) ======
-    // Frames remaining before the minigame can be opened again.
-    private static int reopenCooldown = 0;
+    private static final long REOPEN_COOLDOWN_MS = 1000;
+    private static final long EXIT_DELAY_MS = 2000;
+
+    // Pending while the minigame cannot be opened again (runs on GameClock)
+    private static TimerWheel.Timer reopenCooldown = null;
 
     /** True if the trigger is allowed to open the minigame. */
     public static boolean canReopen()
     {
-        return reopenCooldown == 0;
-    }
-
-    /** Called once per frame by the main world to count down the reopen timer. */
-    public static void tickReopenTimer()
-    {
-        if (reopenCooldown > 0)
-            reopenCooldown--;
+        return !GameClock.isPending(reopenCooldown);
     }
     // ===============================================================
 
@@ -54,7 +50,7 @@ public class CaptainMinigameController
     private boolean finished = false;
 
     private Text successMessage;
-    private int exitTimer = 0;   // frames until minigame closes after success
+    private TimerWheel.Timer exitTimer;   // closes the minigame after success
 
     /** Callback interface to notify the game world when the minigame is over. */
     public interface ResultListener {
@@ -64,17 +60,15 @@ public class CaptainMinigameController
 
     private ResultListener listener;
 
+    // Open JFR minigame event, committed when the minigame closes
+    private GameEvents.Minigame minigameEvent;
+
     public CaptainMinigameController(World world, PanelBoard board, ResultListener listener)
     {
         this.world = world;
         this.board = board;
         this.listener = listener;
 
-        // Allow board to call update() each frame
-        board.attachControllerAdapter(new PanelBoard.ControllerAdapter() {
-            public void update() { CaptainMinigameController.this.update(); }
-        });
-
         // Lock normal character controls while the minigame is active
         if (!MinigameLock.tryLock())
         {
@@ -85,9 +79,13 @@ public class CaptainMinigameController
         
         MinigameLock.registerForceClose(() -> {
             finished = true;
+            GameEvents.minigameClosed(minigameEvent, GameEvents.OUTCOME_FORCED);
+            minigameEvent = null;
             cleanup(); // destroys panelboard safely
         });
 
+        minigameEvent = GameEvents.minigameOpened("Captain");
+
         setupMinigame();
     }
 
@@ -191,7 +189,7 @@ public class CaptainMinigameController
         {
             // 100% if you hit at least one rock, otherwise 50%
             if (hitAnyRock) needsRepairNow = true;
-            else needsRepairNow = (Greenfoot.getRandomNumber(2) == 0);
+            else needsRepairNow = GameRandom.CAPTAIN.nextBoolean();
         }
     
         decidedNeedsRepair = needsRepairNow;
@@ -206,7 +204,7 @@ public class CaptainMinigameController
         if (needsRepairNow)
             EngineRepairState.setNeedsRepair(true);
     
-        exitTimer = 120;
+        exitTimer = GameClock.after(EXIT_DELAY_MS, this::closeAfterSuccess);
     }
 
     private boolean boardAlive()
@@ -215,30 +213,23 @@ public class CaptainMinigameController
     }
     
     /**
-     * Called every frame from PanelBoard.act().
-     * Handles the delayed closing after success.
+     * Fired by exitTimer (GameClock) after the success message was shown.
      */
-    public void update()
+    private void closeAfterSuccess()
     {
-        if (exitTimer > 0)
-        {
-            exitTimer--;
-
-            if (exitTimer == 0)
-            {
-                if (successMessage != null && successMessage.getWorld() != null)
-                    board.removeContent(successMessage);
-
-                cleanup();  // remove panel & contents
-                MinigameLock.setLocked(false);
-                
-                // Start cooldown so the trigger can reopen after 1 second
-                reopenCooldown = 60;
-
-                if (listener != null)
-                    listener.onCaptainMinigameSuccess();
-            }
-        }
+        GameEvents.minigameClosed(minigameEvent, GameEvents.OUTCOME_SUCCESS);
+        minigameEvent = null;
+        if (successMessage != null && successMessage.getWorld() != null && boardAlive())
+            board.removeContent(successMessage);
+
+        cleanup();  // remove panel & contents
+        MinigameLock.setLocked(false);
+        
+        // Start cooldown so the trigger can reopen after 1 second
+        reopenCooldown = GameClock.cooldown(REOPEN_COOLDOWN_MS);
+
+        if (listener != null)
+            listener.onCaptainMinigameSuccess();
     }
 
     /**
@@ -253,6 +244,8 @@ public class CaptainMinigameController
         if (finished) return; // already closed/end sequence
 
         finished = true;
+        GameEvents.minigameClosed(minigameEvent, GameEvents.OUTCOME_CANCELLED);
+        minigameEvent = null;
         
         // Notify tutorial system even on manual close
         if (world instanceof SingleplayerPlaying)
@@ -263,7 +256,7 @@ public class CaptainMinigameController
         MinigameLock.setLocked(false);
 
         // Start cooldown so player can reopen after 1 second
-        reopenCooldown = 60;
+        reopenCooldown = GameClock.cooldown(REOPEN_COOLDOWN_MS);
     }
 
     /**
@@ -271,6 +264,9 @@ public class CaptainMinigameController
      */
     private void cleanup()
     {
+        GameClock.cancel(exitTimer);
+        exitTimer = null;
+
         if (board != null)
         {
             board.destroy();
@@ -292,28 +288,13 @@ public class CaptainMinigameController
      */
     private class EscListener extends Actor
     {
-        private boolean escConsumed = false;
-
         public void act()
         {
             // Only active while the controller is still alive
             if (finished) return;
 
-            boolean escDown = Greenfoot.isKeyDown("escape");
-
-            if (!escDown)
-            {
-                // key released -> re-arm
-                escConsumed = false;
-                return;
-            }
-
-            if (escConsumed)
-                return; // still holding from a previous frame
-
-            escConsumed = true;
-
-            closeFromPlayer();
+            if (GameInput.isActionPressed(GameAction.BACK))
+                closeFromPlayer();
         }
     }
 }
@@ -1,45 +1,45 @@
 import greenfoot.*;
-import java.util.List;
 
 /**
  * CaptainMinigameTrigger
  *
  * Placed on the big boat map (e.g. at the steering wheel).
- * When the player is close and presses E, it opens the Captain minigame.
+ * When the player is close and presses E, it opens the Captain minigame
+ * (proximity and the E key are handled by InteractionSystem).
  *
  * SingleplayerPlaying must implement CaptainMinigameController.ResultListener.
  */
-public class CaptainMinigameTrigger extends Actor
+public class CaptainMinigameTrigger extends Actor implements MapAnchored, Interactable
 {
     // World (map) coordinates of the trigger
     private int worldX;
     private int worldY;
     
-    private int repairPanelCooldown = 0;
+    // Short cooldown after closing the repair panel (GameClock)
+    private static final long PANEL_COOLDOWN_MS = 333;
+    private TimerWheel.Timer repairPanelCooldown;
 
-    // How close the player must be to interact (in pixels, screen space)
+    // How close the player must be to interact (in pixels)
     private int activationDistance = 40;
-
-    // Debounce for the E key
-    private boolean canUseKey = true;
     
     private GreenfootImage visibleImg;
     private GreenfootImage hiddenImg;
-    private boolean isVisibleNow = false; // track state to avoid re-setting every frame
 
     public CaptainMinigameTrigger(int worldX, int worldY)
     {
         this.worldX = worldX;
         this.worldY = worldY;
 
-        visibleImg = new GreenfootImage("CaptainTrigger.png");
-        visibleImg.scale(90, 106);
+        visibleImg = ImageCache.get("CaptainTrigger.png", 90, 106);
 
         hiddenImg = new GreenfootImage(1, 1); // transparent by default
 
         setImage(hiddenImg); // start hidden
     }
 
+    public int getWorldX() { return worldX; }
+    public int getWorldY() { return worldY; }
+
     /**
      * Called from SingleplayerPlaying.updateAllSolidPositions()
      * to place this trigger on screen according to the camera.
@@ -51,96 +51,37 @@ public class CaptainMinigameTrigger extends Actor
         setLocation(screenX, screenY);
     }
 
-    public void act()
+    public int getActivationDistance() { return activationDistance; }
+
+    public boolean isInteractionEnabled()
     {
-        if (repairPanelCooldown > 0) repairPanelCooldown--;
-        updateVisibility();
-        checkInteraction();
+        return !TutorialController.isTutorialMode() || TutorialController.allowCaptainTrigger();
     }
 
-    private void updateVisibility()
+    public void setHighlighted(boolean highlighted)
     {
-        World w = getWorld();
-        if (!(w instanceof SingleplayerPlaying)) return;
-
-        if (TutorialController.isTutorialMode() && !TutorialController.allowCaptainTrigger())
-        {
-            if (isVisibleNow)
-            {
-                setImage(hiddenImg);
-                isVisibleNow = false;
-            }
-            return;
-        }
-
-        List<ControllablePlayer> players = w.getObjects(ControllablePlayer.class);
-        if (players == null || players.isEmpty()) return;
-        ControllablePlayer player = players.get(0);
-
-        int dx = player.getX() - getX();
-        int dy = player.getY() - getY();
-        double distance = Math.sqrt(dx * dx + dy * dy);
-
-        boolean shouldBeVisible = distance <= activationDistance;
-
-        if (shouldBeVisible != isVisibleNow)
-        {
-            setImage(shouldBeVisible ? visibleImg : hiddenImg);
-            isVisibleNow = shouldBeVisible;
-        }
+        setImage(highlighted ? visibleImg : hiddenImg);
     }
-    
-    private void checkInteraction()
+
+    public boolean canInteract()
     {
-        World w = getWorld();
-        if (!(w instanceof SingleplayerPlaying)) return;
-        
-        if (!TutorialController.allowCaptainTrigger()) return;
+        if (!TutorialController.allowCaptainTrigger()) return false;
 
         // If a Captain minigame is currently running, ignore interaction
-        if (MinigameLock.isLocked())
-            return;
+        if (MinigameLock.isLocked()) return false;
 
         // If we're still in cooldown after closing, ignore interaction
-        if (!CaptainMinigameController.canReopen())
-            return;
-
-        // Find the controllable player (Jack)
-        List<ControllablePlayer> players = w.getObjects(ControllablePlayer.class);
-        if (players == null || players.isEmpty()) return;
-        ControllablePlayer player = players.get(0);
-
-        // Distance in screen coordinates
-        int dx = player.getX() - getX();
-        int dy = player.getY() - getY();
-        double distance = Math.sqrt(dx * dx + dy * dy);
-
-        if (distance > activationDistance)
-        {
-            // Out of range: reset key debounce so E can be pressed again later
-            canUseKey = true;
-            return;
-        }
-
-        boolean eDown = Greenfoot.isKeyDown("e");
-
-        if (!eDown)
-        {
-            // Key released: re-arm
-            canUseKey = true;
-            return;
-        }
+        return CaptainMinigameController.canReopen();
+    }
 
-        if (!canUseKey)
-            return; // still holding key from previous frame
-        
-        if (EngineRepairState.needsRepair() && repairPanelCooldown == 0)
+    public void interact(World w)
+    {
+        if (EngineRepairState.needsRepair() && !GameClock.isPending(repairPanelCooldown))
         {
             showRepairEnginePanel(w);
             return;
         }
 
-        canUseKey = false;
         openMinigame(w);
     }
 
@@ -162,14 +103,14 @@ public class CaptainMinigameTrigger extends Actor
         Button ok = new Button("OK", 28, "button1.png", 200, 60, () -> {
             if (board.getWorld() != null) board.destroy();
             MinigameLock.setLocked(false);
-            repairPanelCooldown = 20; // prevent instant retrigger
+            repairPanelCooldown = GameClock.cooldown(PANEL_COOLDOWN_MS); // prevent instant retrigger
         });
         board.addContent(ok, 0, 90);
     
         MinigameLock.registerForceClose(() -> {
             if (board.getWorld() != null) board.destroy();
             MinigameLock.setLocked(false);
-            repairPanelCooldown = 20;
+            repairPanelCooldown = GameClock.cooldown(PANEL_COOLDOWN_MS);
         });
     }
     
@@ -10,8 +10,7 @@ public class CaptainRock extends Actor
 
     public CaptainRock()
     {
-        GreenfootImage img = new GreenfootImage("rockstopdown.png");
-        img.scale(50, 50);
+        GreenfootImage img = ImageCache.get("rockstopdown.png", 50, 50);
         setImage(img);
     }
     
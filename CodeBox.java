@@ -17,12 +17,6 @@ public class CodeBox extends Actor
 
     // Keys we care about
     private String[] keys;
-    private boolean[] wasDown;
-    private int[] holdTicks;
-
-    // Key repeat timing
-    private final int initialDelay = 12;  // frames before auto-repeat starts
-    private final int repeatSpeed  = 3;   // frames between repeats after start
 
     // DEFAULT → no space, editable
     public CodeBox(int width, int height, int maxLength)
@@ -67,9 +61,6 @@ public class CodeBox extends Actor
 
         keys[idx++] = "space";
         keys[idx++] = "backspace";
-
-        wasDown = new boolean[keys.length];
-        holdTicks = new int[keys.length];
     }
 
     // ──────────────────────────────────────────────
@@ -95,7 +86,7 @@ public class CodeBox extends Actor
         if (readOnly) return;
 
         // Click → focus
-        if (Greenfoot.mouseClicked(this)) {
+        if (GameInput.mouseClicked(this)) {
             focused = true;
             showCursor = true;
             cursorTimer = 0;
@@ -104,11 +95,10 @@ public class CodeBox extends Actor
         }
 
         // Click outside → unfocus
-        if (Greenfoot.mouseClicked(null)) {
-            MouseInfo m = Greenfoot.getMouseInfo();
-            if (m == null) return;
+        if (GameInput.mouseClicked(null)) {
+            if (!GameInput.hasMouse()) return;
 
-            int mx = m.getX(), my = m.getY();
+            int mx = GameInput.getMouseX(), my = GameInput.getMouseY();
             int bx = getX(), by = getY();
             int w = getImage().getWidth(), h = getImage().getHeight();
 
@@ -129,32 +119,10 @@ public class CodeBox extends Actor
     // ──────────────────────────────────────────────
     private void pollKeysForTyping()
     {
+        // GameInput does the press and hold-to-repeat timing for every key
         for (int i = 0; i < keys.length; i++) {
-
-            String key = keys[i];
-            boolean down = Greenfoot.isKeyDown(key);
-
-            if (down) {
-
-                if (!wasDown[i]) {
-                    // Just pressed
-                    applyKey(key);
-                    wasDown[i] = true;
-                    holdTicks[i] = 0;
-                } else {
-                    // Held down
-                    holdTicks[i]++;
-                    if (holdTicks[i] > initialDelay &&
-                        (holdTicks[i] - initialDelay) % repeatSpeed == 0)
-                    {
-                        applyKey(key);
-                    }
-                }
-
-            } else {
-                wasDown[i] = false;
-                holdTicks[i] = 0;
-            }
+            if (GameInput.isKeyRepeated(keys[i]))
+                applyKey(keys[i]);
         }
     }
 
@@ -2,6 +2,8 @@ import greenfoot.*;
 
 public class CollisionBox extends Actor
 {
+    private static final FrameProfiler.Stage PROFILE = FrameProfiler.stage("act:CollisionBox");
+
     private Actor owner;
     private int offsetX, offsetY;
 
@@ -17,12 +19,26 @@ public class CollisionBox extends Actor
     }
 
     public void act()
+    {
+        FrameProfiler.begin(PROFILE);
+        followOwner();
+        FrameProfiler.end(PROFILE);
+    }
+
+    private void followOwner()
     {
         if (owner == null || owner.getWorld() == null)
         {
             if (getWorld() != null) getWorld().removeObject(this);
             return;
         }
+        syncToOwner();
+    }
+
+    /** Snaps onto the owner right away (for owners that test collisions before this acts). */
+    public void syncToOwner()
+    {
+        if (owner == null || owner.getWorld() == null || getWorld() == null) return;
         setLocation(owner.getX() + offsetX, owner.getY() + offsetY);
     }
 
@@ -0,0 +1,217 @@
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * World-space collision store for SingleplayerPlaying.
+ *
+ * Every Solid is kept as an integer AABB in MAP coordinates and indexed in a
+ * uniform grid (spatial hash), so point and box queries never move actors
+ * around and cost the same wherever the camera is.
+ *
+ * Boxes are half-open: [minX, maxX) x [minY, maxY).
+ */
+public class CollisionWorld
+{
+    public static final int DEFAULT_CELL_SIZE = 128;
+
+    private final int cellSize;
+    private final int gridCols;
+    private final int gridRows;
+
+    // Solid id -> AABB (parallel arrays, grown on demand)
+    private int[] minXs = new int[32];
+    private int[] minYs = new int[32];
+    private int[] maxXs = new int[32];
+    private int[] maxYs = new int[32];
+    private Solid[] solids = new Solid[32];
+    private int idCount = 0;
+
+    // Ids freed by remove(), reused by add()
+    private int[] freeIds = new int[8];
+    private int freeCount = 0;
+
+    private final Map<Solid, Integer> idsBySolid = new IdentityHashMap<>();
+
+    // Grid cell -> ids of the solids overlapping it
+    private final int[][] cellIds;
+    private final int[] cellCounts;
+
+    public CollisionWorld(int mapWidth, int mapHeight)
+    {
+        this(mapWidth, mapHeight, DEFAULT_CELL_SIZE);
+    }
+
+    public CollisionWorld(int mapWidth, int mapHeight, int cellSize)
+    {
+        this.cellSize = cellSize;
+        this.gridCols = Math.max(1, (mapWidth  + cellSize - 1) / cellSize);
+        this.gridRows = Math.max(1, (mapHeight + cellSize - 1) / cellSize);
+
+        cellIds = new int[gridCols * gridRows][];
+        cellCounts = new int[gridCols * gridRows];
+    }
+
+    public int size()
+    {
+        return idsBySolid.size();
+    }
+
+    // ======================= REGISTRATION =======================
+
+    /** Adds a solid using its world center and size. Adding twice is ignored. */
+    public void add(Solid s)
+    {
+        if (s == null || idsBySolid.containsKey(s)) return;
+
+        int id = (freeCount > 0) ? freeIds[--freeCount] : nextId();
+
+        int left = s.getWorldX() - s.getWidth() / 2;
+        int top  = s.getWorldY() - s.getHeight() / 2;
+
+        minXs[id] = left;
+        minYs[id] = top;
+        maxXs[id] = left + s.getWidth();
+        maxYs[id] = top + s.getHeight();
+        solids[id] = s;
+        idsBySolid.put(s, id);
+
+        forEachCell(id, true);
+    }
+
+    public void remove(Solid s)
+    {
+        Integer id = idsBySolid.remove(s);
+        if (id == null) return;
+
+        forEachCell(id, false);
+        solids[id] = null;
+
+        if (freeCount == freeIds.length) freeIds = grow(freeIds);
+        freeIds[freeCount++] = id;
+    }
+
+    private int nextId()
+    {
+        if (idCount == solids.length)
+        {
+            int n = solids.length * 2;
+            minXs = Arrays.copyOf(minXs, n);
+            minYs = Arrays.copyOf(minYs, n);
+            maxXs = Arrays.copyOf(maxXs, n);
+            maxYs = Arrays.copyOf(maxYs, n);
+            solids = Arrays.copyOf(solids, n);
+        }
+        return idCount++;
+    }
+
+    /** Inserts (or removes) the id in every grid cell its box overlaps. */
+    private void forEachCell(int id, boolean insert)
+    {
+        int c0 = cellCol(minXs[id]), c1 = cellCol(maxXs[id] - 1);
+        int r0 = cellRow(minYs[id]), r1 = cellRow(maxYs[id] - 1);
+
+        for (int r = r0; r <= r1; r++)
+        {
+            for (int c = c0; c <= c1; c++)
+            {
+                int cell = r * gridCols + c;
+                if (insert) insertInCell(cell, id);
+                else        removeFromCell(cell, id);
+            }
+        }
+    }
+
+    private void insertInCell(int cell, int id)
+    {
+        int[] ids = cellIds[cell];
+        if (ids == null)
+        {
+            ids = new int[4];
+            cellIds[cell] = ids;
+        }
+        else if (cellCounts[cell] == ids.length)
+        {
+            ids = grow(ids);
+            cellIds[cell] = ids;
+        }
+        ids[cellCounts[cell]++] = id;
+    }
+
+    private void removeFromCell(int cell, int id)
+    {
+        int[] ids = cellIds[cell];
+        int n = cellCounts[cell];
+        for (int i = 0; i < n; i++)
+        {
+            if (ids[i] == id)
+            {
+                ids[i] = ids[n - 1]; // order does not matter
+                cellCounts[cell] = n - 1;
+                return;
+            }
+        }
+    }
+
+    // ======================= QUERIES =======================
+
+    /** True if the point lies inside any solid. */
+    public boolean collidesPoint(int x, int y)
+    {
+        return collidesBox(x, y, x + 1, y + 1);
+    }
+
+    /** True if the box [minX, maxX) x [minY, maxY) overlaps any solid. */
+    public boolean collidesBox(int minX, int minY, int maxX, int maxY)
+    {
+        return firstSolidIn(minX, minY, maxX, maxY) != null;
+    }
+
+    /** Returns one solid overlapping the box, or null. */
+    public Solid firstSolidIn(int minX, int minY, int maxX, int maxY)
+    {
+        if (maxX <= minX || maxY <= minY) return null;
+
+        int c0 = cellCol(minX), c1 = cellCol(maxX - 1);
+        int r0 = cellRow(minY), r1 = cellRow(maxY - 1);
+
+        for (int r = r0; r <= r1; r++)
+        {
+            for (int c = c0; c <= c1; c++)
+            {
+                int cell = r * gridCols + c;
+                int[] ids = cellIds[cell];
+                int n = cellCounts[cell];
+
+                for (int i = 0; i < n; i++)
+                {
+                    int id = ids[i];
+                    if (minX < maxXs[id] && maxX > minXs[id] &&
+                        minY < maxYs[id] && maxY > minYs[id])
+                    {
+                        return solids[id];
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    // ======================= HELPERS =======================
+
+    // Anything outside the map is folded into the border cells
+    private int cellCol(int x)
+    {
+        return Math.max(0, Math.min(gridCols - 1, Math.floorDiv(x, cellSize)));
+    }
+
+    private int cellRow(int y)
+    {
+        return Math.max(0, Math.min(gridRows - 1, Math.floorDiv(y, cellSize)));
+    }
+
+    private static int[] grow(int[] a)
+    {
+        return Arrays.copyOf(a, a.length * 2);
+    }
+}
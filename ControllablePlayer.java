@@ -1,13 +1,13 @@
 import greenfoot.*;
-import java.util.List;
 
 /**
  * Player that can move around the big map and controls the camera.
  * Only use this (or subclasses) in SingleplayerPlaying.
  */
-public class ControllablePlayer extends PlayerClass
+public class ControllablePlayer extends PlayerClass implements Simulated
 {
-    public final int SPEED = 3;
+    // Walking speed in pixels per second of game time
+    public static final double SPEED = 180.0;
 
     // Max height in pixels the player can "step" up/down automatically
     private static final int STEP_HEIGHT = 10;
@@ -21,8 +21,19 @@ public class ControllablePlayer extends PlayerClass
     protected int worldY;
     private boolean hasWorldPos = false;
 
+    // Position before the last simulation step, for interpolated rendering
+    private int prevWorldX;
+    private int prevWorldY;
+
+    // Fraction of a pixel still to move (speed * dt is rarely a whole number)
+    private double moveRemainder = 0.0;
+
+    // Last map position the camera and sprite were placed at
+    private int renderedX = Integer.MIN_VALUE;
+    private int renderedY = Integer.MIN_VALUE;
+
     // Info for subclasses (like JackClass) to animate with
-    protected boolean isMoving = false; // true if moving this act()
+    protected boolean isMoving = false; // true if moving this step
     protected int facing = 1;           // 1 = right, -1 = left
 
     /** Explicitly set map coordinates for this player. */
@@ -30,6 +41,8 @@ public class ControllablePlayer extends PlayerClass
     {
         worldX = wx;
         worldY = wy;
+        prevWorldX = wx;
+        prevWorldY = wy;
         hasWorldPos = true;
 
         SingleplayerPlaying w = (SingleplayerPlaying)getWorld();
@@ -38,6 +51,9 @@ public class ControllablePlayer extends PlayerClass
         setLocation(screenX, screenY);
     }
 
+    public int getWorldX() { return worldX; }
+    public int getWorldY() { return worldY; }
+
     /** When added to the world, initialise world coords if not already. */
     public void addedToWorld(World w)
     {
@@ -46,12 +62,19 @@ public class ControllablePlayer extends PlayerClass
             SingleplayerPlaying sp = (SingleplayerPlaying)w;
             worldX = sp.screenToWorldX(getX());
             worldY = sp.screenToWorldY(getY());
+            prevWorldX = worldX;
+            prevWorldY = worldY;
             hasWorldPos = true;
         }
     }
 
-    public void act()
+    /** One fixed simulation step, run by the world's SimulationLoop. */
+    @Override
+    public void step(double dt)
     {
+        prevWorldX = worldX;
+        prevWorldY = worldY;
+
         // ===== BLOCK MOVEMENT DURING MINIGAMES =====
         if (MinigameLock.isLocked())
             return;
@@ -59,21 +82,44 @@ public class ControllablePlayer extends PlayerClass
         // 1) Try stair triggers first (W/S)
         if (handleStairTriggers())
         {
-            // We teleported this frame; skip normal movement
-            afterMove();
+            // We teleported this step; skip normal movement and don't slide across the map
+            prevWorldX = worldX;
+            prevWorldY = worldY;
+            afterMove(dt);
             return;
         }
 
         // 2) Normal movement with A/D + slopes
-        moveWithCamera();
-        afterMove();  // hook for subclasses (e.g. animation)
+        moveStep(dt);
+        afterMove(dt);  // hook for subclasses (e.g. animation)
+    }
+
+    /** Moves the camera and sprite to the position between the last two steps. */
+    @Override
+    public void render(double alpha)
+    {
+        if (!hasWorldPos || !(getWorld() instanceof SingleplayerPlaying)) return;
+
+        int x = (int)Math.round(prevWorldX + (worldX - prevWorldX) * alpha);
+        int y = (int)Math.round(prevWorldY + (worldY - prevWorldY) * alpha);
+        if (x == renderedX && y == renderedY) return;
+
+        renderedX = x;
+        renderedY = y;
+
+        // Move camera to follow
+        SingleplayerPlaying world = (SingleplayerPlaying)getWorld();
+        world.centerOn(x, y);
+
+        // Update on-screen position based on camera
+        setLocation(world.worldToScreenX(x), world.worldToScreenY(y));
     }
 
     /**
      * Subclasses can override this to do things after movement,
-     * like updating an animation.
+     * like updating an animation. dt is the step length in seconds.
      */
-    protected void afterMove() { }
+    protected void afterMove(double dt) { }
 
     // ======================= STAIR TRIGGER LOGIC (W / S) =======================
 
@@ -87,8 +133,8 @@ public class ControllablePlayer extends PlayerClass
         if (!(getWorld() instanceof SingleplayerPlaying)) return false;
         if (!hasWorldPos) return false;
     
-        boolean wPressed = Greenfoot.isKeyDown("w");
-        boolean sPressed = Greenfoot.isKeyDown("s");
+        boolean wPressed = GameInput.isActionDown(GameAction.ASCEND);
+        boolean sPressed = GameInput.isActionDown(GameAction.DESCEND);
     
         // When neither key is pressed, re-arm the trigger usage
         if (!wPressed && !sPressed)
@@ -101,7 +147,7 @@ public class ControllablePlayer extends PlayerClass
         if (!canUseTrigger) return false;
     
         // Check if we're touching any StairTrigger
-        StairTrigger tr = (StairTrigger)getOneIntersectingObject(StairTrigger.class);
+        StairTrigger tr = findStairTrigger();
         if (tr == null) return false;
     
         boolean doTeleport = false;
@@ -129,41 +175,72 @@ public class ControllablePlayer extends PlayerClass
     
         SingleplayerPlaying world = (SingleplayerPlaying)getWorld();
     
-        // Clamp and sync
+        // Clamp; render() moves the camera and sprite there
         worldX = Math.max(0, Math.min(worldX, world.getMapWidth()  - 1));
         worldY = Math.max(0, Math.min(worldY, world.getMapHeight() - 1));
     
-        world.centerOn(worldX, worldY);
-    
-        int screenX = world.worldToScreenX(worldX);
-        int screenY = world.worldToScreenY(worldY);
-        setLocation(screenX, screenY);
-    
         canUseTrigger = false;
         return true;
     }
 
+    /**
+     * The StairTrigger whose box overlaps the player's box, both taken at their
+     * MAP positions, so the test does not depend on where the sprites were last drawn.
+     */
+    private StairTrigger findStairTrigger()
+    {
+        GreenfootImage img = getImage();
+        int halfW = img.getWidth() / 2;
+        int halfH = img.getHeight() / 2;
+
+        for (StairTrigger tr : getWorld().getObjects(StairTrigger.class))
+        {
+            GreenfootImage trImg = tr.getImage();
+            int trHalfW = trImg.getWidth() / 2;
+            int trHalfH = trImg.getHeight() / 2;
+
+            if (Math.abs(worldX - tr.getWorldX()) < halfW + trHalfW
+                && Math.abs(worldY - tr.getWorldY()) < halfH + trHalfH)
+                return tr;
+        }
+        return null;
+    }
+
 
     // ======================= EXISTING MOVEMENT / COLLISION =======================
 
-    private void moveWithCamera()
+    private void moveStep(double dt)
     {
-        int dx = 0;
+        int dir = 0;
 
         // LEFT / RIGHT only (no manual up/down here)
-        if (Greenfoot.isKeyDown("a")) dx -= SPEED;
-        if (Greenfoot.isKeyDown("d")) dx += SPEED;
+        if (GameInput.isActionDown(GameAction.MOVE_LEFT))  dir -= 1;
+        if (GameInput.isActionDown(GameAction.MOVE_RIGHT)) dir += 1;
 
-        isMoving = (dx != 0);
+        isMoving = (dir != 0);
 
         // Update facing on horizontal movement
-        if (dx < 0) facing = -1;
-        else if (dx > 0) facing = 1;
+        if (dir < 0) facing = -1;
+        else if (dir > 0) facing = 1;
+
+        if (!isMoving)
+        {
+            moveRemainder = 0.0;
+            return;
+        }
 
-        if (!isMoving) return;
+        // Whole pixels this step; the fraction carries over to the next one
+        double move = dir * SPEED * dt + moveRemainder;
+        int dx = (int)Math.round(move);
+        moveRemainder = move - dx;
+
+        if (dx == 0) return;
 
         SingleplayerPlaying world = (SingleplayerPlaying)getWorld();
 
+        FloorHeightfield floors = world.getFloors();
+        int deck = floors.deckAt(worldY);
+
         int newWorldX = worldX;
         int newWorldY = worldY;
 
@@ -179,44 +256,52 @@ public class ControllablePlayer extends PlayerClass
         }
         else
         {
-            // --- 2) Try stepping UP a small amount (stairs / slope edges) ---
-            boolean steppedUp = false;
-            for (int offset = 1; offset <= STEP_HEIGHT; offset++)
+            // --- 2) Try stepping UP onto a low solid (stairs / slope edges) ---
+            int stepY = standingYOn(floors.surfaceAbove(tryX, feetY(worldY), STEP_HEIGHT));
+
+            if (stepY != FloorHeightfield.NO_FLOOR && !collidesAt(tryX, stepY))
             {
-                int stepY = worldY - offset;
-                if (!collidesAt(tryX, stepY))
-                {
-                    newWorldX = tryX;
-                    newWorldY = stepY;
-                    steppedUp = true;
-                    break;
-                }
+                newWorldX = tryX;
+                newWorldY = stepY;
             }
-
-            // If stepping up failed, stay in place
-            if (!steppedUp)
+            else
             {
-                newWorldX = worldX;
-                newWorldY = worldY;
+                // Geometry the heightfield does not know: probe pixel by pixel
+                for (int offset = 1; offset <= STEP_HEIGHT; offset++)
+                {
+                    if (!collidesAt(tryX, worldY - offset))
+                    {
+                        newWorldX = tryX;
+                        newWorldY = worldY - offset;
+                        break;
+                    }
+                }
             }
+            // otherwise stay in place
         }
 
         // --- 3) Try stepping DOWN a little to follow flat steps/edges ---
-        if (!collidesAt(newWorldX, newWorldY + 1))
+        int dropY = standingYOn(floors.surfaceBelow(newWorldX, feetY(newWorldY), STEP_HEIGHT));
+        if (dropY != FloorHeightfield.NO_FLOOR)
         {
+            if (dropY > newWorldY)
+                newWorldY = dropY; // stand just above collision
+        }
+        else if (!collidesAt(newWorldX, newWorldY + 1))
+        {
+            // Nothing baked under the feet: probe pixel by pixel
             for (int offset = 1; offset <= STEP_HEIGHT; offset++)
             {
-                int dropY = newWorldY + offset;
-                if (collidesAt(newWorldX, dropY))
+                if (collidesAt(newWorldX, newWorldY + offset))
                 {
-                    newWorldY = dropY - 1; // stand just above collision
+                    newWorldY = newWorldY + offset - 1; // stand just above collision
                     break;
                 }
             }
         }
 
         // --- 4) Apply slope surfaces (mathematical ramps) ---
-        newWorldY = applySlopes(newWorldX, newWorldY);
+        newWorldY = applySlopes(floors, deck, newWorldX, newWorldY);
 
         worldX = newWorldX;
         worldY = newWorldY;
@@ -224,66 +309,61 @@ public class ControllablePlayer extends PlayerClass
         // Safety clamp to map bounds
         worldX = Math.max(0, Math.min(worldX, world.getMapWidth()  - 1));
         worldY = Math.max(0, Math.min(worldY, world.getMapHeight() - 1));
+    }
 
-        // Move camera to follow
-        world.centerOn(worldX, worldY);
+    /** Bottom edge Y of this player when its center is at centerY. */
+    private int feetY(int centerY)
+    {
+        int h = getImage().getHeight();
+        return centerY + (h - h / 2);
+    }
 
-        // Update on-screen position based on camera
-        int screenX = world.worldToScreenX(worldX);
-        int screenY = world.worldToScreenY(worldY);
-        setLocation(screenX, screenY);
+    /**
+     * Center Y at which this player stands on a surface whose top edge is topY
+     * (just above it, not overlapping), or NO_FLOOR.
+     */
+    private int standingYOn(int topY)
+    {
+        if (topY == FloorHeightfield.NO_FLOOR) return FloorHeightfield.NO_FLOOR;
+
+        int h = getImage().getHeight();
+        return topY - (h - h / 2);
     }
 
     /**
      * Returns a Y adjusted to sit on a SlopeArea surface if close enough,
      * otherwise returns the original Y.
      */
-    private int applySlopes(int targetX, int targetY)
+    private int applySlopes(FloorHeightfield floors, int deck, int targetX, int targetY)
     {
-        SingleplayerPlaying world = (SingleplayerPlaying)getWorld();
-        List<SlopeArea> slopes = world.getObjects(SlopeArea.class);
-
-        int adjustedY = targetY;
-
-        for (SlopeArea slope : slopes)
-        {
-            int minX = slope.getMinX();
-            int maxX = slope.getMaxX();
-
-            if (targetX < minX || targetX > maxX)
-                continue;
+        int surfaceY = floors.slopeYAt(deck, targetX);
+        if (surfaceY == FloorHeightfield.NO_FLOOR)
+            return targetY;
 
-            int surfaceY = slope.getYAtX(targetX);
-            int diff = targetY - surfaceY; // positive if below surface
+        int diff = targetY - surfaceY; // positive if below surface
 
-            // If we're within snapping distance of the slope line, snap onto it
-            if (diff > -SLOPE_SNAP_HEIGHT && diff < SLOPE_SNAP_HEIGHT)
-            {
-                adjustedY = surfaceY;
-                break; // one slope is enough
-            }
-        }
+        // If we're within snapping distance of the slope line, snap onto it
+        if (diff > -SLOPE_SNAP_HEIGHT && diff < SLOPE_SNAP_HEIGHT)
+            return surfaceY;
 
-        return adjustedY;
+        return targetY;
     }
 
-    /** Checks if moving to (targetX, targetY) collides with a Solid object. */
+    /**
+     * Checks if standing at (targetX, targetY) in MAP coordinates would overlap a Solid.
+     * Uses the world's CollisionWorld, so the actor is never moved for the test.
+     */
     private boolean collidesAt(int targetX, int targetY)
     {
         SingleplayerPlaying world = (SingleplayerPlaying)getWorld();
 
-        // Convert target world coords to screen coords using CURRENT camera
-        int screenX = world.worldToScreenX(targetX);
-        int screenY = world.worldToScreenY(targetY);
-
-        // Temporarily move for collision check
-        int oldX = getX();
-        int oldY = getY();
-
-        setLocation(screenX, screenY);
-        Actor hit = getOneIntersectingObject(Solid.class);
-        setLocation(oldX, oldY);
+        // Player box = current image centered on the target position
+        GreenfootImage img = getImage();
+        int w = img.getWidth();
+        int h = img.getHeight();
+        int left = targetX - w / 2;
+        int top  = targetY - h / 2;
 
-        return hit != null;
+        return world.getCollisionWorld().collidesBox(left, top, left + w, top + h);
     }
 }
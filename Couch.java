@@ -10,8 +10,7 @@ public class Couch extends Actor
 {
     public Couch()
     {
-        GreenfootImage img = new GreenfootImage("couch.png");
-        img.scale(600, 400);   // <- resize here
+        GreenfootImage img = ImageCache.get("couch.png", 600, 400);
         setImage(img);
     }
 }
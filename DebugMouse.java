@@ -10,9 +10,8 @@ public class DebugMouse extends Actor
 {
     public void act()
     {
-        MouseInfo mi = Greenfoot.getMouseInfo();
-        if (mi != null && Greenfoot.mouseClicked(null)) {
-            System.out.println("X = " + mi.getX() + ", Y = " + mi.getY());
+        if (GameInput.hasMouse() && GameInput.mouseClicked(null)) {
+            System.out.println("X = " + GameInput.getMouseX() + ", Y = " + GameInput.getMouseY());
         }
     }
 }
\ No newline at end of file
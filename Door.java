@@ -6,18 +6,20 @@ import greenfoot.*;
  * @author (your name) 
  * @version (a version number or a date)
  */
-public class Door extends Actor
+public class Door extends Actor implements MapAnchored
 {
     private int worldX = 698;
     private int worldY = 742;
     
     public Door()
     {
-        GreenfootImage img = new GreenfootImage("middoor.png");
-        img.scale(69, 167);   // <- resize here
+        GreenfootImage img = ImageCache.get("middoor.png", 69, 167);
         setImage(img);
     }
     
+    public int getWorldX() { return worldX; }
+    public int getWorldY() { return worldY; }
+
     public void updateScreenPosition(SingleplayerPlaying world)
     {
         int screenX = world.worldToScreenX(worldX);
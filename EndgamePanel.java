@@ -37,7 +37,10 @@ public class EndgamePanel
 
         Button mainMenu = new Button(
             "Main Menu", "button1.png", 220, 60,
-            () -> Greenfoot.setWorld(new MainMenu())
+            () -> {
+                GameInput.stopRecording();
+                Greenfoot.setWorld(new MainMenu());
+            }
         );
         panel.addContent(mainMenu, 0, panel.getHalfHeight() - 60);
     }
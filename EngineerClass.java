@@ -10,8 +10,7 @@ public class EngineerClass extends PlayerClass
 {
     public EngineerClass()
     {
-        GreenfootImage img = new GreenfootImage("engineer.png");
-        img.scale(150, 150);   // <- resize here
+        GreenfootImage img = ImageCache.get("engineer.png", 150, 150);
         setImage(img);
     }
 }
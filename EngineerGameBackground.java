@@ -10,8 +10,7 @@ public class EngineerGameBackground extends Actor
 {
     public EngineerGameBackground()
     {
-        GreenfootImage img = new GreenfootImage("enggame_bg.png");
-        img.scale(675, 467);
+        GreenfootImage img = ImageCache.get("enggame_bg.png", 675, 467);
         setImage(img);
     }
 
@@ -5,20 +5,23 @@ import java.util.List;
 
 public class EngineerMinigameController
 {
-    // ===== REOPEN COOLDOWN =====
-    private static int reopenCooldown = 0;
-    public static boolean canReopen() { return reopenCooldown == 0; }
-    public static void tickReopenTimer() { if (reopenCooldown > 0) reopenCooldown--; }
+    // ===== REOPEN COOLDOWN (GameClock) =====
+    private static final long REOPEN_COOLDOWN_MS = 1000;
+    private static final long WRONG_PAUSE_MS = 1500;
+    private static final long EXIT_DELAY_MS = 1500;
+
+    private static TimerWheel.Timer reopenCooldown = null;
+    public static boolean canReopen() { return !GameClock.isPending(reopenCooldown); }
 
     private World world;
     private PanelBoard board;
 
     private boolean paused = false;
-    private int pauseTimer = 0;
+    private TimerWheel.Timer pauseTimer;
     private Text wrongMessage = null;
     private boolean finished = false;
     private Text successMessage;
-    private int exitTimer = 0;
+    private TimerWheel.Timer exitTimer;
 
     private EngineerWireLayer wireLayer;
     private final List<EngineerWirePeg> leftPegs  = new ArrayList<>();
@@ -33,16 +36,15 @@ public class EngineerMinigameController
 
     private ResultListener listener;
 
+    // Open JFR minigame event, committed when the minigame closes
+    private GameEvents.Minigame minigameEvent;
+
     public EngineerMinigameController(World world, PanelBoard board, ResultListener listener)
     {
         this.world = world;
         this.board = board;
         this.listener = listener;
 
-        board.attachControllerAdapter(new PanelBoard.ControllerAdapter() {
-            public void update() { EngineerMinigameController.this.update(); }
-        });
-
         if (!MinigameLock.tryLock())
         {
             board.destroy();
@@ -51,9 +53,13 @@ public class EngineerMinigameController
         
         MinigameLock.registerForceClose(() -> {
             finished = true;
+            GameEvents.minigameClosed(minigameEvent, GameEvents.OUTCOME_FORCED);
+            minigameEvent = null;
             cleanup();
         });
 
+        minigameEvent = GameEvents.minigameOpened("Engineer");
+
         setupMinigame();
     }
 
@@ -80,11 +86,11 @@ public class EngineerMinigameController
         
         // Shuffle LEFT independently
         List<EngineerWirePeg.WireColor> orderLeft = new ArrayList<>(colors);
-        Collections.shuffle(orderLeft);
+        GameRandom.ENGINEER.shuffle(orderLeft);
         
         // Shuffle RIGHT independently
         List<EngineerWirePeg.WireColor> orderRight = new ArrayList<>(colors);
-        Collections.shuffle(orderRight);
+        GameRandom.ENGINEER.shuffle(orderRight);
 
         // positions (relative to board center)
         int leftX  = -board.getHalfWidth() + 120;
@@ -135,7 +141,7 @@ public class EngineerMinigameController
         wrongMessage = new Text("Wrong match! (-100$)", 28, Color.RED, true);
         board.addContent(wrongMessage, 0, 0);
     
-        pauseTimer = 90; // 1.5 seconds at ~60 FPS
+        pauseTimer = GameClock.after(WRONG_PAUSE_MS, this::hideWrongMessage);
     }
     
     private void hideWrongMessage()
@@ -145,7 +151,8 @@ public class EngineerMinigameController
     
         wrongMessage = null;
         paused = false;
-        pauseTimer = 0;
+        GameClock.cancel(pauseTimer);
+        pauseTimer = null;
     }
     
     /** Called by EngineerMouseHandler when player releases on a right peg. */
@@ -204,39 +211,22 @@ public class EngineerMinigameController
         successMessage = new Text("All wires matched!", 28, Color.GREEN, true);
         board.addContent(successMessage, 0, 0);
 
-        exitTimer = 90;
+        exitTimer = GameClock.after(EXIT_DELAY_MS, this::closeAfterResult);
     }
 
-    public void update()
+    /** Fired by exitTimer (GameClock) once the result message was shown. */
+    private void closeAfterResult()
     {
-        if (paused)
-        {
-            if (pauseTimer > 0)
-            {
-                pauseTimer--;
-                if (pauseTimer == 0)
-                {
-                    hideWrongMessage();
-                }
-            }
-            return; // keep minigame paused while message is visible
-        }
-        
-        if (exitTimer > 0)
+        GameEvents.minigameClosed(minigameEvent, successMessage != null ? GameEvents.OUTCOME_SUCCESS : GameEvents.OUTCOME_FAILURE);
+        minigameEvent = null;
+        cleanup();
+        MinigameLock.setLocked(false);
+        reopenCooldown = GameClock.cooldown(REOPEN_COOLDOWN_MS);
+
+        if (listener != null)
         {
-            exitTimer--;
-            if (exitTimer == 0)
-            {
-                cleanup();
-                MinigameLock.setLocked(false);
-                reopenCooldown = 60;
-
-                if (listener != null)
-                {
-                    if (successMessage != null) listener.onEngineerMinigameSuccess();
-                    else listener.onEngineerMinigameFailure();
-                }
-            }
+            if (successMessage != null) listener.onEngineerMinigameSuccess();
+            else listener.onEngineerMinigameFailure();
         }
     }
 
@@ -244,17 +234,24 @@ public class EngineerMinigameController
     {
         if (finished) return;
         finished = true;
+        GameEvents.minigameClosed(minigameEvent, GameEvents.OUTCOME_CANCELLED);
+        minigameEvent = null;
     
         if (world instanceof SingleplayerPlaying)
             TutorialController.onEngineerMinigameClosed();
     
         cleanup();
         MinigameLock.setLocked(false);
-        reopenCooldown = 60;
+        reopenCooldown = GameClock.cooldown(REOPEN_COOLDOWN_MS);
     }
 
     private void cleanup()
     {
+        GameClock.cancel(pauseTimer);
+        GameClock.cancel(exitTimer);
+        pauseTimer = null;
+        exitTimer = null;
+
         if (board != null)
         {
             board.destroy();
@@ -264,24 +261,12 @@ public class EngineerMinigameController
 
     private class EscListener extends Actor
     {
-        private boolean escConsumed = false;
-
         public void act()
         {
             if (finished) return;
 
-            boolean escDown = Greenfoot.isKeyDown("escape");
-
-            if (!escDown)
-            {
-                escConsumed = false;
-                return;
-            }
-
-            if (escConsumed) return;
-
-            escConsumed = true;
-            closeFromPlayer();
+            if (GameInput.isActionPressed(GameAction.BACK))
+                closeFromPlayer();
         }
     }
 }
\ No newline at end of file
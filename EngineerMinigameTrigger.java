@@ -1,117 +1,66 @@
 import greenfoot.*;
-import java.util.List;
 
-public class EngineerMinigameTrigger extends Actor
+public class EngineerMinigameTrigger extends Actor implements MapAnchored, Interactable
 {
     private int worldX;
     private int worldY;
 
     private int activationDistance = 40;
-    private boolean canUseKey = true;
 
     private GreenfootImage visibleImg;
     private GreenfootImage hiddenImg;
-    private boolean isVisibleNow = false;
     
-    private int noRepairPanelCooldown = 0;
+    // Short cooldown after closing the "no repairs" panel (GameClock)
+    private static final long PANEL_COOLDOWN_MS = 333;
+    private TimerWheel.Timer noRepairPanelCooldown;
 
     public EngineerMinigameTrigger(int worldX, int worldY)
     {
         this.worldX = worldX;
         this.worldY = worldY;
 
-        visibleImg = new GreenfootImage("EngineerTrigger.png");
-        visibleImg.scale(140, 81);
+        visibleImg = ImageCache.get("EngineerTrigger.png", 140, 81);
 
         hiddenImg = new GreenfootImage(1, 1);
         setImage(hiddenImg);
     }
 
+    public int getWorldX() { return worldX; }
+    public int getWorldY() { return worldY; }
+
     public void updateScreenPosition(SingleplayerPlaying world)
     {
         setLocation(world.worldToScreenX(worldX), world.worldToScreenY(worldY));
     }
 
-    public void act()
+    public int getActivationDistance() { return activationDistance; }
+
+    public boolean isInteractionEnabled()
     {
-        if (noRepairPanelCooldown > 0) noRepairPanelCooldown--;
-        updateVisibility();
-        checkInteraction();
+        return !TutorialController.isTutorialMode() || TutorialController.allowEngineerTrigger();
     }
 
-    private void updateVisibility()
+    public void setHighlighted(boolean highlighted)
     {
-        World w = getWorld();
-        if (!(w instanceof SingleplayerPlaying)) return;
-        
-        if (TutorialController.isTutorialMode() && !TutorialController.allowEngineerTrigger())
-        {
-            if (isVisibleNow)
-            {
-                setImage(hiddenImg);
-                isVisibleNow = false;
-            }
-            return;
-        }
-
-        List<ControllablePlayer> players = w.getObjects(ControllablePlayer.class);
-        if (players == null || players.isEmpty()) return;
-
-        ControllablePlayer player = players.get(0);
-
-        int dx = player.getX() - getX();
-        int dy = player.getY() - getY();
-        double distance = Math.sqrt(dx * dx + dy * dy);
-
-        boolean shouldBeVisible = distance <= activationDistance;
-
-        if (shouldBeVisible != isVisibleNow)
-        {
-            setImage(shouldBeVisible ? visibleImg : hiddenImg);
-            isVisibleNow = shouldBeVisible;
-        }
+        setImage(highlighted ? visibleImg : hiddenImg);
     }
 
-    private void checkInteraction()
+    public boolean canInteract()
     {
-        World w = getWorld();
-        if (!(w instanceof SingleplayerPlaying)) return;
-        if (!TutorialController.allowEngineerTrigger()) return;
-        if (MinigameLock.isLocked()) return;
-        if (!EngineerMinigameController.canReopen()) return;
-        if (noRepairPanelCooldown > 0) return;
-
-        List<ControllablePlayer> players = w.getObjects(ControllablePlayer.class);
-        if (players == null || players.isEmpty()) return;
-        ControllablePlayer player = players.get(0);
-
-        int dx = player.getX() - getX();
-        int dy = player.getY() - getY();
-        double distance = Math.sqrt(dx * dx + dy * dy);
-
-        if (distance > activationDistance)
-        {
-            canUseKey = true;
-            return;
-        }
-
-        boolean eDown = Greenfoot.isKeyDown("e");
-
-        if (!eDown)
-        {
-            canUseKey = true;
-            return;
-        }
+        if (!TutorialController.allowEngineerTrigger()) return false;
+        if (MinigameLock.isLocked()) return false;
+        if (!EngineerMinigameController.canReopen()) return false;
+        return !GameClock.isPending(noRepairPanelCooldown);
+    }
 
-        if (!canUseKey) return;
-        
+    public void interact(World w)
+    {
         if (!EngineRepairState.needsRepair())
         {
             showNoRepairNeeded(w);
             return;
         }
 
-        canUseKey = false;
         openMinigame(w);
     }
 
@@ -131,14 +80,14 @@ public class EngineerMinigameTrigger extends Actor
         Button ok = new Button("OK", 28, "button1.png", 200, 60, () -> {
             if (board.getWorld() != null) board.destroy();
             MinigameLock.setLocked(false);
-            noRepairPanelCooldown = 20;
+            noRepairPanelCooldown = GameClock.cooldown(PANEL_COOLDOWN_MS);
         });
         board.addContent(ok, 0, 90);
 
         MinigameLock.registerForceClose(() -> {
             if (board.getWorld() != null) board.destroy();
             MinigameLock.setLocked(false);
-            noRepairPanelCooldown = 20;
+            noRepairPanelCooldown = GameClock.cooldown(PANEL_COOLDOWN_MS);
         });
     }
     
@@ -3,6 +3,8 @@ import java.util.List;
 
 public class EngineerMouseHandler extends Actor
 {
+    private static final FrameProfiler.Stage PROFILE = FrameProfiler.stage("act:EngineerMouseHandler");
+
     private final PanelBoard board;
     private final EngineerMinigameController controller;
     private final EngineerWireLayer layer;
@@ -20,6 +22,13 @@ public class EngineerMouseHandler extends Actor
     }
 
     public void act()
+    {
+        FrameProfiler.begin(PROFILE);
+        handleMouse();
+        FrameProfiler.end(PROFILE);
+    }
+
+    private void handleMouse()
     {
         if (controller.isFinished()) return;
         
@@ -30,11 +39,10 @@ public class EngineerMouseHandler extends Actor
             return;
         }
         
-        MouseInfo mi = Greenfoot.getMouseInfo();
-        if (mi == null) return;
+        if (!GameInput.hasMouse()) return;
 
-        int mx = mi.getX();
-        int my = mi.getY();
+        int mx = GameInput.getMouseX();
+        int my = GameInput.getMouseY();
 
         // only interact inside the panel
         if (!board.containsWorldPoint(mx, my))
@@ -48,7 +56,7 @@ public class EngineerMouseHandler extends Actor
         }
 
         // start drag on mouse press over LEFT peg
-        if (Greenfoot.mousePressed(null))
+        if (GameInput.mousePressed(null))
         {
             EngineerWirePeg peg = getPegAt(mx, my);
             if (peg != null && peg.getSide() == EngineerWirePeg.Side.LEFT && !peg.isMatched())
@@ -58,7 +66,7 @@ public class EngineerMouseHandler extends Actor
         }
 
         // while dragging (mouse held)
-        if (draggingFrom != null && Greenfoot.mouseDragged(null))
+        if (draggingFrom != null && GameInput.mouseDragged(null))
         {
             layer.setTempLine(
                 draggingFrom.getX(), draggingFrom.getY(),
@@ -68,7 +76,7 @@ public class EngineerMouseHandler extends Actor
         }
 
         // release -> attempt match if released over RIGHT peg
-        if (draggingFrom != null && Greenfoot.mouseDragEnded(null))
+        if (draggingFrom != null && GameInput.mouseDragEnded(null))
         {
             EngineerWirePeg target = getPegAt(mx, my);
 
@@ -1,19 +1,24 @@
 import greenfoot.*;
-import java.util.ArrayList;
-import java.util.List;
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
 
+/**
+ * Wires drawn over the Engineer minigame board.
+ *
+ * Connected wires are drawn once into a permanent layer when they are added.
+ * The drag line is an overlay on the shown image: moving it only restores the
+ * previous line's bounding box from the permanent layer and draws the new one,
+ * so dragging costs the same however many wires are connected.
+ */
 public class EngineerWireLayer extends Actor
 {
-    private static class Line
-    {
-        int x1, y1, x2, y2;
-        Color color;
-        Line(int x1, int y1, int x2, int y2, Color color)
-        { this.x1=x1; this.y1=y1; this.x2=x2; this.y2=y2; this.color=color; }
-    }
+    private static final int PERMANENT_THICKNESS = 5;
+    private static final int TEMP_THICKNESS = 3;
 
     private final int width, height;
-    private final List<Line> lines = new ArrayList<>();
+
+    // Every connected wire, never cleared
+    private final GreenfootImage permanentLayer;
 
     // temp (drag) line
     private boolean hasTemp = false;
@@ -24,8 +29,8 @@ public class EngineerWireLayer extends Actor
     {
         this.width = width;
         this.height = height;
+        permanentLayer = new GreenfootImage(width, height);
         setImage(new GreenfootImage(width, height));
-        redraw();
     }
 
     /** World coords -> layer local coords helper */
@@ -34,8 +39,15 @@ public class EngineerWireLayer extends Actor
 
     public void addPermanentLine(int worldX1, int worldY1, int worldX2, int worldY2, Color color)
     {
-        lines.add(new Line(toLocalX(worldX1), toLocalY(worldY1), toLocalX(worldX2), toLocalY(worldY2), color));
-        redraw();
+        int x1 = toLocalX(worldX1), y1 = toLocalY(worldY1);
+        int x2 = toLocalX(worldX2), y2 = toLocalY(worldY2);
+
+        drawThickLine(permanentLayer, x1, y1, x2, y2, color, PERMANENT_THICKNESS);
+
+        // Show the new wire, then put the drag line back on top if it was under it
+        restoreBox(x1, y1, x2, y2, PERMANENT_THICKNESS);
+        if (hasTemp)
+            drawThickLine(getImage(), tx1, ty1, tx2, ty2, tColor, TEMP_THICKNESS);
     }
     
     private void drawThickLine(GreenfootImage img,
@@ -53,41 +65,55 @@ public class EngineerWireLayer extends Actor
 
     public void setTempLine(int worldX1, int worldY1, int worldX2, int worldY2, Color color)
     {
+        int x1 = toLocalX(worldX1), y1 = toLocalY(worldY1);
+        int x2 = toLocalX(worldX2), y2 = toLocalY(worldY2);
+
+        if (hasTemp && x1 == tx1 && y1 == ty1 && x2 == tx2 && y2 == ty2 && color.equals(tColor))
+            return; // mouse did not move
+
+        // Erase the previous drag line
+        if (hasTemp)
+            restoreBox(tx1, ty1, tx2, ty2, TEMP_THICKNESS);
+
         hasTemp = true;
-        tx1 = toLocalX(worldX1);
-        ty1 = toLocalY(worldY1);
-        tx2 = toLocalX(worldX2);
-        ty2 = toLocalY(worldY2);
+        tx1 = x1;
+        ty1 = y1;
+        tx2 = x2;
+        ty2 = y2;
         tColor = color;
-        redraw();
+
+        // temp line (drawn over the permanent wires)
+        drawThickLine(getImage(), tx1, ty1, tx2, ty2, tColor, TEMP_THICKNESS);
     }
 
     public void clearTempLine()
     {
         if (!hasTemp) return;
         hasTemp = false;
-        redraw();
+        restoreBox(tx1, ty1, tx2, ty2, TEMP_THICKNESS);
     }
 
-    private void redraw()
+    /** Copies the permanent layer over the bounding box of a thick line on the shown image. */
+    private void restoreBox(int x1, int y1, int x2, int y2, int thickness)
     {
-        GreenfootImage img = getImage();
-        img.clear();
+        int half = thickness / 2;
+        int minX = Math.max(0,      Math.min(x1, x2) - half);
+        int minY = Math.max(0,      Math.min(y1, y2) - half);
+        int maxX = Math.min(width,  Math.max(x1, x2) + half + 1);
+        int maxY = Math.min(height, Math.max(y1, y2) + half + 1);
+        if (minX >= maxX || minY >= maxY) return;
 
-        // transparent background
-        img.setColor(new Color(0,0,0,0));
-        img.fill();
-
-        // permanent lines
-        for (Line ln : lines)
+        Graphics2D g = getImage().getAwtImage().createGraphics();
+        try
         {
-            drawThickLine(img, ln.x1, ln.y1, ln.x2, ln.y2, ln.color, 5);
+            g.setComposite(AlphaComposite.Src);
+            g.drawImage(permanentLayer.getAwtImage(),
+                        minX, minY, maxX, maxY,
+                        minX, minY, maxX, maxY, null);
         }
-
-        // temp line (draw last)
-        if (hasTemp)
+        finally
         {
-            drawThickLine(img, tx1, ty1, tx2, ty2, tColor, 3);
+            g.dispose();
         }
     }
-}
\ No newline at end of file
+}
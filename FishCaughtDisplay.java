@@ -2,6 +2,8 @@ import greenfoot.*;
 
 public class FishCaughtDisplay extends Actor
 {
+    private static final FrameProfiler.Stage PROFILE = FrameProfiler.stage("act:FishCaughtDisplay");
+
     private static final int FONT_SIZE = 22;
     private String lastText = "";
 
@@ -12,7 +14,9 @@ public class FishCaughtDisplay extends Actor
 
     public void act()
     {
+        FrameProfiler.begin(PROFILE);
         redraw();
+        FrameProfiler.end(PROFILE);
     }
 
     private void redraw()
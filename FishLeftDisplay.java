@@ -2,8 +2,14 @@ import greenfoot.*;
 
 public class FishLeftDisplay extends Actor
 {
+    private static final FrameProfiler.Stage PROFILE = FrameProfiler.stage("act:FishLeftDisplay");
+
     private static FishLeftDisplay instance;
     private static final int FONT_SIZE = 24;
+    private static final Color BACKGROUND = new Color(0,0,0,128);
+
+    // Count currently drawn (-1 = nothing drawn yet)
+    private int shownLeft = -1;
 
     public FishLeftDisplay()
     {
@@ -16,17 +22,23 @@ public class FishLeftDisplay extends Actor
         if (instance != null) instance.redraw();
     }
 
+    /** Redraws only if the count changed since the last draw. */
     private void redraw()
     {
         int left = FishermanFishData.getZoneFishesLeft();
-        setImage(new GreenfootImage(
+        if (left == shownLeft) return;
+        shownLeft = left;
+
+        setImage(TextCache.get(
             "Fishes Left " + left + "/" + FishermanFishData.MAX_ZONE_FISH,
-            FONT_SIZE, Color.WHITE, new Color(0,0,0,128)
+            FONT_SIZE, Color.WHITE, BACKGROUND, false
         ));
     }
 
     public void act()
     {
+        FrameProfiler.begin(PROFILE);
         redraw();
+        FrameProfiler.end(PROFILE);
     }
 }
\ No newline at end of file
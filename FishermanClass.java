@@ -10,8 +10,7 @@ public class FishermanClass extends PlayerClass
 {
     public FishermanClass()
     {
-        GreenfootImage img = new GreenfootImage("fisherman.png");
-        img.scale(200, 200);   // <- resize here
+        GreenfootImage img = ImageCache.get("fisherman.png", 200, 200);
         setImage(img);
     }
 }
@@ -1,11 +1,10 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Random;
 
 public class FishermanFishData
 {
-    private static final Random rng = new Random();
+    private static final GameRandom.Stream rng = GameRandom.FISH;
     private static int fishesReleased = 0;
 
     public static final int MAX_PENDING_CAUGHT = 3;
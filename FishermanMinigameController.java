@@ -2,10 +2,12 @@ import greenfoot.*;
 
 public class FishermanMinigameController
 {
-    // ===== REOPEN COOLDOWN =====
-    private static int reopenCooldown = 0;
-    public static boolean canReopen() { return reopenCooldown == 0; }
-    public static void tickReopenTimer() { if (reopenCooldown > 0) reopenCooldown--; }
+    // ===== REOPEN COOLDOWN (GameClock) =====
+    private static final long REOPEN_COOLDOWN_MS = 1000;
+    private static final long EXIT_DELAY_MS = 3000;
+
+    private static TimerWheel.Timer reopenCooldown = null;
+    public static boolean canReopen() { return !GameClock.isPending(reopenCooldown); }
 
     private final World world;
     private PanelBoard board;
@@ -16,7 +18,7 @@ public class FishermanMinigameController
     private Text resultText;
     private Text countdownText;
 
-    private int exitTimer = 0;
+    private TimerWheel.Timer exitTimer;
 
     private FishermanSkillCheckWheel wheel;
 
@@ -27,8 +29,8 @@ public class FishermanMinigameController
     private int misses = 0;
     private int maxMisses = 3;
     
-    private int missCooldownFrames = 0;
-    private static final int MISS_COOLDOWN_DURATION = 20; // 0.33s at 60fps
+    private TimerWheel.Timer missCooldown;
+    private static final long MISS_COOLDOWN_MS = 333;
     
     // Fish rolled for this minigame instance
     private FishSpecies targetFish;
@@ -36,11 +38,8 @@ public class FishermanMinigameController
     // --- countdown ---
     private enum State { COUNTDOWN, ACTIVE }
     private State state = State.COUNTDOWN;
-    private int countdownFrames = 180; // 3 seconds @ ~60fps
-
-    // Input debounce (E only)
-    private boolean eArmed = false;     // becomes true only after E is released once
-    private boolean canConsumePress = true;
+    private static final long COUNTDOWN_MS = 3000;
+    private long countdownEndMillis;   // GameClock time when the countdown ends
 
     // Zone pass logic
     private boolean wasInWindow = false;
@@ -57,6 +56,11 @@ public class FishermanMinigameController
 
     private final ResultListener listener;
 
+    // Open JFR minigame event, committed when the minigame closes
+    private GameEvents.Minigame minigameEvent;
+
+    private static final FrameProfiler.Stage PROFILE_UPDATE = FrameProfiler.stage("minigame:Fisherman.update");
+
     public FishermanMinigameController(World world, PanelBoard board, ResultListener listener, int requiredHits)
     {
         this.world = world;
@@ -65,7 +69,12 @@ public class FishermanMinigameController
         this.requiredHits = Math.max(1, requiredHits);
 
         board.attachControllerAdapter(new PanelBoard.ControllerAdapter() {
-            public void update() { FishermanMinigameController.this.update(); }
+            public void update()
+            {
+                FrameProfiler.begin(PROFILE_UPDATE);
+                FishermanMinigameController.this.update();
+                FrameProfiler.end(PROFILE_UPDATE);
+            }
         });
 
         if (!MinigameLock.tryLock())
@@ -76,9 +85,13 @@ public class FishermanMinigameController
         
         MinigameLock.registerForceClose(() -> {
             finished = true;
+            GameEvents.minigameClosed(minigameEvent, GameEvents.OUTCOME_FORCED);
+            minigameEvent = null;
             cleanup(); // destroys panelboard safely
         });
 
+        minigameEvent = GameEvents.minigameOpened("Fisherman");
+
         setupMinigame();
     }
 
@@ -96,7 +109,7 @@ public class FishermanMinigameController
         wheel = new FishermanSkillCheckWheel(
             320,   // size
             90.0,   // initial needle angle
-            3.8,   // speed
+            228.0, // speed, degrees per second
             28.0   // window half-width
         );
         
@@ -117,6 +130,7 @@ public class FishermanMinigameController
 
         countdownText = new Text("READY", 48, Color.WHITE, true);
         board.addContent(countdownText, 0, 0);
+        countdownEndMillis = GameClock.getTimeMillis() + COUNTDOWN_MS;
 
         // ESC listener
         board.addContent(new EscListener(), 0, 0);
@@ -134,20 +148,24 @@ public class FishermanMinigameController
 
         private boolean isMissOnCooldown()
     {
-        return missCooldownFrames > 0;
+        return GameClock.isPending(missCooldown);
     }
     
     private void startMissCooldown()
     {
-        missCooldownFrames = MISS_COOLDOWN_DURATION;
+        missCooldown = GameClock.cooldown(MISS_COOLDOWN_MS);
     }
 
     private void setCountdownLabel(String text)
     {
         if (!boardAlive()) return;
         
+        // Same actor, redrawn only when the label changes
         if (countdownText != null && countdownText.getWorld() != null)
-            board.removeContent(countdownText);
+        {
+            countdownText.setText(text);
+            return;
+        }
 
         countdownText = new Text(text, 48, Color.WHITE, true);
         board.addContent(countdownText, 0, 0);
@@ -182,17 +200,19 @@ public class FishermanMinigameController
     {
         if (!boardAlive()) return;
         
-        if (infoText != null && infoText.getWorld() != null)
-            board.removeContent(infoText);
-
-        infoText = new Text(
+        String info =
             "Fish: " + targetFish.rarity.label + "   " +
             "Hits: " + currentHits + " / " + requiredHits +
-            "   Misses: " + misses + " / " + maxMisses,
-            22,
-            Color.WHITE,
-            true
-        );
+            "   Misses: " + misses + " / " + maxMisses;
+
+        // Same actor, redrawn only when the label changes
+        if (infoText != null && infoText.getWorld() != null)
+        {
+            infoText.setText(info);
+            return;
+        }
+
+        infoText = new Text(info, 22, Color.WHITE, true);
         board.addContent(infoText, 0, -board.getHalfHeight() + 40);
     }
 
@@ -201,11 +221,6 @@ public class FishermanMinigameController
         state = State.ACTIVE;
         hideCountdown();
 
-        // Important: prevent the "trigger press" from counting.
-        // We only arm input after E is released at least once.
-        eArmed = false;
-        canConsumePress = true;
-
         // Reset pass tracking
         wasInWindow = wheel.isNeedleInWindow();
         hitRegisteredThisPass = false;
@@ -263,7 +278,7 @@ public class FishermanMinigameController
             Color.GREEN
         );
     
-        exitTimer = 180; // 3 seconds
+        exitTimer = GameClock.after(EXIT_DELAY_MS, this::closeAfterResult);
     }
 
     private void notifyFailure()
@@ -284,60 +299,80 @@ public class FishermanMinigameController
             Color.RED
         );
     
-        exitTimer = 180; // 3 seconds
+        exitTimer = GameClock.after(EXIT_DELAY_MS, this::closeAfterResult);
     }
 
-    public void update()
+    /** Fired by exitTimer (GameClock) once the result message was shown. */
+    private void closeAfterResult()
     {
-        if (!boardAlive()) return;
-        if (finished && exitTimer == 0) return;
-        if (missCooldownFrames > 0)
-            missCooldownFrames--;
-        
-        // Close timer
-        if (exitTimer > 0)
+        GameEvents.minigameClosed(minigameEvent, currentHits >= requiredHits ? GameEvents.OUTCOME_SUCCESS : GameEvents.OUTCOME_FAILURE);
+        minigameEvent = null;
+        cleanup();
+        MinigameLock.setLocked(false);
+        reopenCooldown = GameClock.cooldown(REOPEN_COOLDOWN_MS);
+
+        if (listener != null)
         {
-            exitTimer--;
-            if (exitTimer == 0)
-            {
-                cleanup();
-                MinigameLock.setLocked(false);
-                reopenCooldown = 60;
-
-                if (listener != null)
-                {
-                    if (currentHits >= requiredHits)
-                        listener.onFishermanMinigameSuccess();
-                    else
-                        listener.onFishermanMinigameFailure();
-                }
-            }
-            return;
+            if (currentHits >= requiredHits)
+                listener.onFishermanMinigameSuccess();
+            else
+                listener.onFishermanMinigameFailure();
         }
+    }
+
+    public void update()
+    {
+        if (!boardAlive()) return;
+        if (finished) return; // waiting for exitTimer
 
         // ===== COUNTDOWN =====
         if (state == State.COUNTDOWN)
         {
             // Block any early E input from being treated as a miss:
             // we do not even read skillcheck input in this state.
-            countdownFrames--;
+            long left = countdownEndMillis - GameClock.getTimeMillis();
 
-            if (countdownFrames > 120)      setCountdownLabel("READY");
-            else if (countdownFrames > 60)  setCountdownLabel("SET");
-            else if (countdownFrames > 0)   setCountdownLabel("FISH!");
+            if (left > 2000)      setCountdownLabel("READY");
+            else if (left > 1000) setCountdownLabel("SET");
+            else if (left > 0)    setCountdownLabel("FISH!");
 
-            if (countdownFrames <= 0)
+            if (left <= 0)
                 beginActive();
 
             return;
         }
 
         // ===== ACTIVE =====
-        // 1) Zone enter/exit miss rule
         boolean inWindow = wheel.isNeedleInWindow();
 
+        // The needle may have crossed the whole window between two frames
+        // (or two steps): the swept arc still counts as a pass
+        boolean swept = wheel.wasWindowSwept();
+        wheel.clearSweep();
+
+        // 1) Interact presses only: holding the key counts once, and a key
+        //    still held from the countdown (or the trigger) never counts.
+        //    The press is judged where the needle was when the key went down,
+        //    not where the last step left it, so frame length does not matter.
+        if (GameInput.isActionPressed(GameAction.INTERACT))
+        {
+            double pressAge = GameInput.getActionPressAge(GameAction.INTERACT);
+
+            // Press while inside window = success; outside = miss
+            if (wheel.wasNeedleInWindowAgo(pressAge))
+            {
+                hitRegisteredThisPass = true;
+                onHitSuccess();
+                return; // new target, pass tracking already reset
+            }
+
+            if (!isMissOnCooldown())
+                registerMiss("pressed-outside");
+        }
+
+        // 2) Zone enter/exit miss rule
         // If we just ENTERED the window, start a new "pass"
-        if (!wasInWindow && inWindow)
+        if (!wasInWindow && (inWindow || swept))
         {
             hitRegisteredThisPass = false;
         }
@@ -345,7 +380,7 @@ public class FishermanMinigameController
         // If we EXITED the window without hitting -> miss
         if (!isMissOnCooldown())
         {
-            if (wasInWindow && !inWindow)
+            if ((wasInWindow || swept) && !inWindow)
             {
                 if (!hitRegisteredThisPass)
                     registerMiss("exit-without-hit");
@@ -353,58 +388,29 @@ public class FishermanMinigameController
         }
 
         wasInWindow = inWindow;
-
-        // 2) E-only input with arming (must release first)
-        boolean eDown = Greenfoot.isKeyDown("e");
-
-        if (eDown)
-        {
-            // If E is held, only one press counts
-            if (!canConsumePress) return;
-
-            // If E hasn't been released since active began, ignore (no miss)
-            if (!eArmed) return;
-
-            canConsumePress = false;
-
-            // Press while inside window = success; outside = miss
-            if (inWindow)
-            {
-                hitRegisteredThisPass = true;
-                onHitSuccess();
-            }
-            else
-            {
-                if (!isMissOnCooldown())
-                    registerMiss("pressed-outside");
-            }
-
-            return;
-        }
-
-        // Key released
-        canConsumePress = true;
-
-        // Once we see E released at least once after countdown, we arm it
-        if (!eArmed)
-            eArmed = true;
     }
 
     private void closeFromPlayer()
     {
         if (finished) return;
         finished = true;
+        GameEvents.minigameClosed(minigameEvent, GameEvents.OUTCOME_CANCELLED);
+        minigameEvent = null;
     
         if (world instanceof SingleplayerPlaying)
             TutorialController.onFishermanMinigameClosed();
     
         cleanup();
         MinigameLock.setLocked(false);
-        reopenCooldown = 60;
+        reopenCooldown = GameClock.cooldown(REOPEN_COOLDOWN_MS);
     }
 
     private void cleanup()
     {
+        GameClock.cancel(exitTimer);
+        GameClock.cancel(missCooldown);
+        exitTimer = null;
+
         if (board != null)
         {
             board.destroy();
@@ -414,8 +420,6 @@ public class FishermanMinigameController
 
     private class EscListener extends Actor
     {
-        private boolean escConsumed = false;
-
         public EscListener()
         {
             setImage(new GreenfootImage(1, 1));
@@ -425,16 +429,8 @@ public class FishermanMinigameController
         {
             if (finished) return;
 
-            boolean escDown = Greenfoot.isKeyDown("escape");
-            if (!escDown)
-            {
-                escConsumed = false;
-                return;
-            }
-            if (escConsumed) return;
-
-            escConsumed = true;
-            closeFromPlayer();
+            if (GameInput.isActionPressed(GameAction.BACK))
+                closeFromPlayer();
         }
     }
 }
\ No newline at end of file
@@ -1,19 +1,17 @@
 import greenfoot.*;
-import java.util.List;
 
-public class FishermanMinigameTrigger extends Actor
+public class FishermanMinigameTrigger extends Actor implements MapAnchored, Interactable
 {
     private int worldX, worldY;
     private int activationDistance = 40;
-    private boolean canUseKey = true;
 
     private GreenfootImage visibleImg;
     private GreenfootImage hiddenImg;
-    private boolean isVisibleNow = false;
     
-    private int bucketPanelCooldown = 0;
-    private int zonePanelCooldown = 0;
-    private boolean zonePanelJustShown = false;
+    // Short cooldowns after closing an info panel (GameClock)
+    private static final long PANEL_COOLDOWN_MS = 333;
+    private TimerWheel.Timer bucketPanelCooldown;
+    private TimerWheel.Timer zonePanelCooldown;
 
     // Fish difficulty for this trigger (hits needed)
     private int requiredHits = 2;
@@ -24,104 +22,50 @@ public class FishermanMinigameTrigger extends Actor
         this.worldY = worldY;
         this.requiredHits = Math.max(1, requiredHits);
 
-        visibleImg = new GreenfootImage("FishermanTrigger.png");
-        visibleImg.scale(137, 122);
+        visibleImg = ImageCache.get("FishermanTrigger.png", 137, 122);
 
         hiddenImg = new GreenfootImage(1, 1);
         setImage(hiddenImg);
     }
 
+    public int getWorldX() { return worldX; }
+    public int getWorldY() { return worldY; }
+
     public void updateScreenPosition(SingleplayerPlaying world)
     {
         setLocation(world.worldToScreenX(worldX), world.worldToScreenY(worldY));
     }
 
-    public void act()
+    public int getActivationDistance() { return activationDistance; }
+
+    public boolean isInteractionEnabled()
     {
-        if (bucketPanelCooldown > 0) bucketPanelCooldown--;
-        if (zonePanelCooldown > 0) zonePanelCooldown--;
-    
-        // clear latch once cooldown finishes
-        if (zonePanelCooldown == 0) zonePanelJustShown = false;
-    
-        updateVisibility();
-        checkInteraction();
+        return !TutorialController.isTutorialMode() || TutorialController.allowFishermanTrigger();
     }
 
-    private void updateVisibility()
+    public void setHighlighted(boolean highlighted)
     {
-        World w = getWorld();
-        if (!(w instanceof SingleplayerPlaying)) return;
-
-        if (TutorialController.isTutorialMode() && !TutorialController.allowFishermanTrigger())
-        {
-            if (isVisibleNow)
-            {
-                setImage(hiddenImg);
-                isVisibleNow = false;
-            }
-            return;
-        }
-        
-        List<ControllablePlayer> players = w.getObjects(ControllablePlayer.class);
-        if (players == null || players.isEmpty()) return;
-
-        ControllablePlayer player = players.get(0);
-
-        int dx = player.getX() - getX();
-        int dy = player.getY() - getY();
-        double dist = Math.sqrt(dx*dx + dy*dy);
-
-        boolean should = dist <= activationDistance;
+        setImage(highlighted ? visibleImg : hiddenImg);
+    }
 
-        if (should != isVisibleNow)
-        {
-            setImage(should ? visibleImg : hiddenImg);
-            isVisibleNow = should;
-        }
+    public boolean canInteract()
+    {
+        if (!TutorialController.allowFishermanTrigger()) return false;
+        if (MinigameLock.isLocked()) return false;
+        if (!FishermanMinigameController.canReopen()) return false;
+        return !GameClock.isPending(bucketPanelCooldown);
     }
 
-    private void checkInteraction()
+    public void interact(World w)
     {
-        World w = getWorld();
-        if (!(w instanceof SingleplayerPlaying)) return;
-        if (!TutorialController.allowFishermanTrigger()) return;
-    
-        if (MinigameLock.isLocked()) return;
-        if (!FishermanMinigameController.canReopen()) return;
-        if (bucketPanelCooldown > 0) return;
-    
-        List<ControllablePlayer> players = w.getObjects(ControllablePlayer.class);
-        if (players == null || players.isEmpty()) return;
-        ControllablePlayer player = players.get(0);
-    
-        int dx = player.getX() - getX();
-        int dy = player.getY() - getY();
-        double dist = Math.sqrt(dx*dx + dy*dy);
-    
-        if (dist > activationDistance)
-        {
-            canUseKey = true;
-            return;
-        }
-    
-        boolean eDown = Greenfoot.isKeyDown("e");
-        if (!eDown)
-        {
-            canUseKey = true;
-            return;
-        }
-    
-        if (!canUseKey) return;
-        canUseKey = false;
-    
         if (FishermanFishData.isZoneDepleted())
         {
             showZoneDepleted(w);
             return;
         }
         
-        if (zonePanelJustShown) return;
+        // Zone panel was just closed
+        if (GameClock.isPending(zonePanelCooldown)) return;
         
         if (FishermanFishData.isCatchLimitReached())
         {
@@ -134,11 +78,9 @@ public class FishermanMinigameTrigger extends Actor
 
     private void showZoneDepleted(World world)
     {
-        if (zonePanelCooldown > 0) return;
+        if (GameClock.isPending(zonePanelCooldown)) return;
         if (!MinigameLock.tryLock()) return;
     
-        zonePanelJustShown = true;
-    
         PanelBoard board = new PanelBoard("panelboard.png", 600, 300);
         world.addObject(board, world.getWidth()/2, world.getHeight()/2);
     
@@ -153,8 +95,8 @@ public class FishermanMinigameTrigger extends Actor
             if (board.getWorld() != null) board.destroy();
             MinigameLock.setLocked(false);
     
-            zonePanelCooldown = 20;
-            bucketPanelCooldown = 20;
+            zonePanelCooldown = GameClock.cooldown(PANEL_COOLDOWN_MS);
+            bucketPanelCooldown = GameClock.cooldown(PANEL_COOLDOWN_MS);
         });
         board.addContent(ok, 0, 90);
     
@@ -162,8 +104,8 @@ public class FishermanMinigameTrigger extends Actor
             if (board.getWorld() != null) board.destroy();
             MinigameLock.setLocked(false);
     
-            zonePanelCooldown = 20;
-            bucketPanelCooldown = 20;
+            zonePanelCooldown = GameClock.cooldown(PANEL_COOLDOWN_MS);
+            bucketPanelCooldown = GameClock.cooldown(PANEL_COOLDOWN_MS);
         });
     }
     
@@ -184,14 +126,14 @@ public class FishermanMinigameTrigger extends Actor
         Button ok = new Button("OK", 28, "button1.png", 200, 60, () -> {
             if (board.getWorld() != null) board.destroy();
             MinigameLock.setLocked(false);
-            bucketPanelCooldown = 20;
+            bucketPanelCooldown = GameClock.cooldown(PANEL_COOLDOWN_MS);
         });
         board.addContent(ok, 0, 90);
     
         MinigameLock.registerForceClose(() -> {
             if (board.getWorld() != null) board.destroy();
             MinigameLock.setLocked(false);
-            bucketPanelCooldown = 20;
+            bucketPanelCooldown = GameClock.cooldown(PANEL_COOLDOWN_MS);
         });
     }
     
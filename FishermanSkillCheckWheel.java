@@ -1,18 +1,64 @@
 import greenfoot.*;
-import java.util.Random;
-
-public class FishermanSkillCheckWheel extends Actor
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+
+/**
+ * Skill-check wheel for the Fisherman minigame.
+ *
+ * Drawn in two layers: the ring, success sector and hook are baked into a
+ * static layer that is rebuilt only when the target moves, and each frame
+ * just the area under the old and new needle is restored from it before the
+ * needle is drawn again. Trig comes from a shared lookup table.
+ *
+ * The needle turns in the world's SimulationLoop at a speed in degrees per
+ * second; hits are judged on the simulated angle and the drawn needle is
+ * interpolated between the last two steps. A timed press can be judged on the
+ * angle at the moment it happened with wasNeedleInWindowAgo(); the loop tells
+ * the wheel how far the present is past the last step (stepsDone()).
+ *
+ * Each step also checks the arc the needle swept against the window, so a
+ * fast needle or a narrow window cannot skip over it between two steps;
+ * wasWindowSwept() reports that until clearSweep() or the target moves.
+ */
+public class FishermanSkillCheckWheel extends Actor implements Simulated
 {
+    // Sin/cos lookup table, 0.1 degree steps
+    private static final int TRIG_STEPS_PER_DEG = 10;
+    private static final int TRIG_SIZE = 360 * TRIG_STEPS_PER_DEG;
+    private static final double[] COS = new double[TRIG_SIZE];
+    private static final double[] SIN = new double[TRIG_SIZE];
+
+    static {
+        for (int i = 0; i < TRIG_SIZE; i++)
+        {
+            double rad = Math.toRadians(i / (double)TRIG_STEPS_PER_DEG);
+            COS[i] = Math.cos(rad);
+            SIN[i] = Math.sin(rad);
+        }
+    }
+
     private final int size;
     private final int cx, cy;
 
     private double needleAngleDeg;
-    private double needleSpeedDegPerFrame;
+    private double prevNeedleAngleDeg;
+    private double needleSpeedDegPerSecond;
+
+    // The needle crossed or touched the window during a step since clearSweep()
+    private boolean windowSwept = false;
+
+    // Game seconds from the last step to the present, from the SimulationLoop
+    private double secondsSinceStep = 0.0;
+    // Length of the last step, the furthest back wasNeedleInWindowAgo() looks
+    private double lastStepSeconds = 0.0;
+
+    // Angle shown on screen (interpolated), may trail needleAngleDeg by one step
+    private double displayNeedleDeg;
 
     private double targetAngleDeg;
     private double windowHalfWidthDeg;
 
-    private final Random rng = new Random();
+    private final GameRandom.Stream rng = GameRandom.SKILL_CHECK;
 
     private int outerR;
     private int innerR;
@@ -21,37 +67,69 @@ public class FishermanSkillCheckWheel extends Actor
 
     private boolean paused = false;
 
-    public FishermanSkillCheckWheel(int sizePx, double startNeedleDeg, double speedDegPerFrame, double windowHalfWidthDeg)
+    // Ring + sector + hook; rebuilt only when staticDirty
+    private final GreenfootImage staticLayer;
+    private boolean staticDirty = true;
+
+    // Needle currently drawn on the actor image, and the box it covers
+    private double drawnNeedleDeg = Double.NaN;
+    private int needleMinX, needleMinY, needleMaxX, needleMaxY;
+
+    public FishermanSkillCheckWheel(int sizePx, double startNeedleDeg, double speedDegPerSecond, double windowHalfWidthDeg)
     {
         this.size = sizePx;
         this.cx = size / 2;
         this.cy = size / 2;
 
         this.needleAngleDeg = startNeedleDeg;
-        this.needleSpeedDegPerFrame = speedDegPerFrame;
+        this.prevNeedleAngleDeg = startNeedleDeg;
+        this.displayNeedleDeg = startNeedleDeg;
+        this.needleSpeedDegPerSecond = speedDegPerSecond;
         this.windowHalfWidthDeg = windowHalfWidthDeg;
 
         this.outerR = (int)(size * 0.44);
         this.innerR = (int)(size * 0.30);
 
         try {
-            hookImg = new GreenfootImage("hook.png");
-            hookImg.scale(26, 26);
+            hookImg = ImageCache.get("hook.png", 26, 26);
         } catch (Exception e) {
             hookImg = null;
         }
 
+        staticLayer = new GreenfootImage(size, size);
+
         randomizeTargetAny();
         setImage(new GreenfootImage(size, size));
         redraw();
     }
 
-    public void act()
+    /** One fixed simulation step, run by the world's SimulationLoop. */
+    @Override
+    public void step(double dt)
     {
+        prevNeedleAngleDeg = needleAngleDeg;
+        lastStepSeconds = dt;
         if (!paused)
         {
-            needleAngleDeg = normalizeDeg(needleAngleDeg + needleSpeedDegPerFrame);
+            double sweep = needleSpeedDegPerSecond * dt;
+            if (sweepHitsWindow(needleAngleDeg, sweep))
+                windowSwept = true;
+            needleAngleDeg = normalizeDeg(needleAngleDeg + sweep);
         }
+    }
+
+    @Override
+    public void stepsDone(double secondsSinceStep)
+    {
+        this.secondsSinceStep = secondsSinceStep;
+    }
+
+    /** Draws the needle between its last two simulated angles (wrap-safe). */
+    @Override
+    public void render(double alpha)
+    {
+        double d = smallestAngleDiffDeg(needleAngleDeg, prevNeedleAngleDeg);
+        displayNeedleDeg = normalizeDeg(prevNeedleAngleDeg + d * alpha);
         redraw();
     }
 
@@ -68,6 +146,8 @@ public class FishermanSkillCheckWheel extends Actor
     public void randomizeTargetAny()
     {
         targetAngleDeg = rng.nextInt(360);
+        staticDirty = true;
+        windowSwept = false;
     }
 
     /**
@@ -86,21 +166,107 @@ public class FishermanSkillCheckWheel extends Actor
         int sign = rng.nextBoolean() ? 1 : -1;
 
         targetAngleDeg = normalizeDeg(prev + sign * delta);
+        staticDirty = true;
+        windowSwept = false;
     }
 
     public boolean isNeedleInWindow()
     {
-        double d = smallestAngleDiffDeg(needleAngleDeg, targetAngleDeg);
+        return isInWindow(needleAngleDeg);
+    }
+
+    /**
+     * Needle angle secondsAfterStep seconds after the last simulated step
+     * (negative: before it), following the needle's constant speed.
+     */
+    public double getNeedleAngleAt(double secondsAfterStep)
+    {
+        if (paused) return needleAngleDeg;
+        return normalizeDeg(needleAngleDeg + needleSpeedDegPerSecond * secondsAfterStep);
+    }
+
+    /** Whether the needle was in the window at that time; see getNeedleAngleAt(). */
+    public boolean isNeedleInWindowAt(double secondsAfterStep)
+    {
+        return isInWindow(getNeedleAngleAt(secondsAfterStep));
+    }
+
+    /**
+     * Whether the needle was in the window secondsAgo game seconds before the
+     * present. Looks back no further than the start of the last step, so a
+     * stale press age cannot extrapolate the needle round the wheel.
+     */
+    public boolean wasNeedleInWindowAgo(double secondsAgo)
+    {
+        double ago = Math.max(0.0, Math.min(secondsAgo, secondsSinceStep + lastStepSeconds));
+        return isNeedleInWindowAt(secondsSinceStep - ago);
+    }
+
+    /** The needle was in the window at some point of a step since clearSweep() or the last target change. */
+    public boolean wasWindowSwept()
+    {
+        return windowSwept;
+    }
+
+    public void clearSweep()
+    {
+        windowSwept = false;
+    }
+
+    /**
+     * Whether the arc from startDeg turning sweepDeg (negative: clockwise)
+     * overlaps the window. Measured from startDeg in the direction of travel,
+     * the window spans [rel - half width, rel + half width]: the arc reaches
+     * it if it gets to its near edge, and starts inside it if the window
+     * wraps past 360 back over the start.
+     */
+    private boolean sweepHitsWindow(double startDeg, double sweepDeg)
+    {
+        if (windowHalfWidthDeg >= 180.0) return true;
+
+        double rel = (sweepDeg >= 0) ? normalizeDeg(targetAngleDeg - startDeg)
+                                     : normalizeDeg(startDeg - targetAngleDeg);
+        return rel - windowHalfWidthDeg <= Math.abs(sweepDeg)
+            || rel + windowHalfWidthDeg >= 360.0;
+    }
+
+    private boolean isInWindow(double angleDeg)
+    {
+        double d = smallestAngleDiffDeg(angleDeg, targetAngleDeg);
         return Math.abs(d) <= windowHalfWidthDeg;
     }
 
     private void redraw()
     {
         GreenfootImage img = getImage();
-        img.clear();
 
-        img.setColor(new Color(0, 0, 0, 0));
-        img.fill();
+        if (staticDirty)
+        {
+            bakeStaticLayer();
+            staticDirty = false;
+
+            // Whole image from the new static layer
+            restore(img, 0, 0, size, size);
+        }
+        else if (displayNeedleDeg == drawnNeedleDeg)
+        {
+            return; // nothing moved
+        }
+        else
+        {
+            // Only the old needle's box
+            restore(img, needleMinX, needleMinY, needleMaxX - needleMinX, needleMaxY - needleMinY);
+        }
+
+        drawNeedle(img);
+        drawnNeedleDeg = displayNeedleDeg;
+    }
+
+    /** Ring, success sector and hook marker: everything that only depends on the target. */
+    private void bakeStaticLayer()
+    {
+        GreenfootImage img = staticLayer;
+        img.clear();
 
         img.setColor(new Color(160, 160, 160));
         drawRing(img, cx, cy, outerR, innerR);
@@ -112,8 +278,8 @@ public class FishermanSkillCheckWheel extends Actor
         fillRingSector(img, cx, cy, outerR, innerR, start, end, 2.5);
 
         int markerR = (outerR + innerR) / 2;
-        int hx = cx + (int)Math.round(Math.cos(Math.toRadians(targetAngleDeg)) * markerR);
-        int hy = cy - (int)Math.round(Math.sin(Math.toRadians(targetAngleDeg)) * markerR);
+        int hx = cx + (int)Math.round(cosDeg(targetAngleDeg) * markerR);
+        int hy = cy - (int)Math.round(sinDeg(targetAngleDeg) * markerR);
 
         if (hookImg != null)
             img.drawImage(hookImg, hx - hookImg.getWidth()/2, hy - hookImg.getHeight()/2);
@@ -122,16 +288,42 @@ public class FishermanSkillCheckWheel extends Actor
             img.setColor(Color.WHITE);
             img.fillOval(hx - 5, hy - 5, 10, 10);
         }
+    }
 
+    private void drawNeedle(GreenfootImage img)
+    {
         img.setColor(Color.RED);
         int needleLen = outerR + 8;
-        int nx = cx + (int)Math.round(Math.cos(Math.toRadians(needleAngleDeg)) * needleLen);
-        int ny = cy - (int)Math.round(Math.sin(Math.toRadians(needleAngleDeg)) * needleLen);
+        int nx = cx + (int)Math.round(cosDeg(displayNeedleDeg) * needleLen);
+        int ny = cy - (int)Math.round(sinDeg(displayNeedleDeg) * needleLen);
         img.drawLine(cx, cy, nx, ny);
         img.drawLine(cx + 1, cy, nx + 1, ny);
         img.drawLine(cx, cy + 1, nx, ny + 1);
 
         img.fillOval(cx - 4, cy - 4, 8, 8);
+
+        // Box covering the three lines and the hub, with a pixel of slack
+        needleMinX = Math.max(0,    Math.min(cx - 4, nx) - 1);
+        needleMinY = Math.max(0,    Math.min(cy - 4, ny) - 1);
+        needleMaxX = Math.min(size, Math.max(cx + 5, nx + 2) + 1);
+        needleMaxY = Math.min(size, Math.max(cy + 5, ny + 2) + 1);
+    }
+
+    /** Copies the static layer's pixels (including transparency) over a box of img. */
+    private void restore(GreenfootImage img, int x, int y, int w, int h)
+    {
+        if (w <= 0 || h <= 0) return;
+
+        Graphics2D g = img.getAwtImage().createGraphics();
+        try
+        {
+            g.setComposite(AlphaComposite.Src);
+            g.drawImage(staticLayer.getAwtImage(), x, y, x + w, y + h, x, y, x + w, y + h, null);
+        }
+        finally
+        {
+            g.dispose();
+        }
     }
 
     private void drawRing(GreenfootImage img, int x, int y, int rOuter, int rInner)
@@ -169,17 +361,15 @@ public class FishermanSkillCheckWheel extends Actor
         for (int i = 0; i <= steps; i++)
         {
             double a = startDeg + (endDeg - startDeg) * (i / (double)steps);
-            double rad = Math.toRadians(a);
-            xs[i] = x + (int)Math.round(Math.cos(rad) * rOuter);
-            ys[i] = y - (int)Math.round(Math.sin(rad) * rOuter);
+            xs[i] = x + (int)Math.round(cosDeg(a) * rOuter);
+            ys[i] = y - (int)Math.round(sinDeg(a) * rOuter);
         }
 
         for (int i = 0; i <= steps; i++)
         {
             double a = endDeg - (endDeg - startDeg) * (i / (double)steps);
-            double rad = Math.toRadians(a);
-            xs[(steps + 1) + i] = x + (int)Math.round(Math.cos(rad) * rInner);
-            ys[(steps + 1) + i] = y - (int)Math.round(Math.sin(rad) * rInner);
+            xs[(steps + 1) + i] = x + (int)Math.round(cosDeg(a) * rInner);
+            ys[(steps + 1) + i] = y - (int)Math.round(sinDeg(a) * rInner);
         }
 
         img.fillPolygon(xs, ys, xs.length);
@@ -193,8 +383,26 @@ public class FishermanSkillCheckWheel extends Actor
     public void setTargetAngleDeg(double angleDeg)
     {
         targetAngleDeg = normalizeDeg(angleDeg);
+        staticDirty = true;
+        windowSwept = false;
     }
     
+    private static int trigIndex(double deg)
+    {
+        int i = (int)Math.round(deg * TRIG_STEPS_PER_DEG) % TRIG_SIZE;
+        return (i < 0) ? i + TRIG_SIZE : i;
+    }
+
+    private static double cosDeg(double deg)
+    {
+        return COS[trigIndex(deg)];
+    }
+
+    private static double sinDeg(double deg)
+    {
+        return SIN[trigIndex(deg)];
+    }
+
     private double normalizeDeg(double a)
     {
         a %= 360.0;
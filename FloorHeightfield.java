@@ -0,0 +1,191 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Baked floor heights for SingleplayerPlaying, one entry per world X column
+ * on each deck, so movement resolves floor contact with one array lookup.
+ *
+ * Two things are stored per column:
+ *  - surfaces: the top edge of every Solid over that column, sorted top to
+ *    bottom. Any of them can be stood on (a step, a box, the top of a wall),
+ *    so a tall wall never hides a lower step next to it; movement asks for the
+ *    one nearest the feet. Dilated by the body half width, so a column already
+ *    covers the player's whole footprint.
+ *  - slopeY: per deck (horizontal bands of the map given by their top Y), the
+ *    SlopeArea surface Y at that column (player center Y, same as
+ *    SlopeArea.getYAtX()).
+ * NO_FLOOR means nothing there.
+ *
+ * Geometry can change at runtime: adding or removing a Solid / SlopeArea only
+ * rebuilds the columns it covers.
+ */
+public class FloorHeightfield
+{
+    public static final int NO_FLOOR = Integer.MAX_VALUE;
+
+    private static final int[] NO_SURFACES = new int[0];
+
+    private final int mapWidth;
+    private final int[] deckTops;
+    private final int bodyHalfWidth;
+
+    private final int[][] surfaces;   // column -> Solid tops, ascending Y (shared NO_SURFACES when none)
+    private final int[][] slopeY;
+
+    private final List<Solid> solids = new ArrayList<>();
+    private final List<SlopeArea> slopes = new ArrayList<>();
+
+    /**
+     * @param mapWidth      number of columns
+     * @param deckTops      top Y of each deck, ascending (deck 0 also covers anything above it)
+     * @param bodyHalfWidth half width of the walking body's footprint
+     */
+    public FloorHeightfield(int mapWidth, int[] deckTops, int bodyHalfWidth)
+    {
+        this.mapWidth = mapWidth;
+        this.deckTops = deckTops.clone();
+        this.bodyHalfWidth = bodyHalfWidth;
+
+        surfaces = new int[mapWidth][];
+        slopeY   = new int[deckTops.length][mapWidth];
+
+        Arrays.fill(surfaces, NO_SURFACES);
+        for (int d = 0; d < deckTops.length; d++)
+            Arrays.fill(slopeY[d], NO_FLOOR);
+    }
+
+    // ======================= LOOKUPS =======================
+
+    /** Deck index whose band contains y. */
+    public int deckAt(int y)
+    {
+        int deck = 0;
+        while (deck + 1 < deckTops.length && y >= deckTops[deck + 1])
+            deck++;
+        return deck;
+    }
+
+    /**
+     * Highest Solid top under a body centered on column x that lies from 1 to
+     * maxRise pixels above feetY (what a step up would stand on), or NO_FLOOR.
+     */
+    public int surfaceAbove(int x, int feetY, int maxRise)
+    {
+        if (x < 0 || x >= mapWidth) return NO_FLOOR;
+
+        int[] tops = surfaces[x];
+        for (int i = 0; i < tops.length; i++)
+        {
+            if (tops[i] >= feetY) break;
+            if (tops[i] >= feetY - maxRise) return tops[i];
+        }
+        return NO_FLOOR;
+    }
+
+    /**
+     * Nearest Solid top under a body centered on column x that lies from 0 to
+     * maxDrop pixels below feetY (0 = already standing on it), or NO_FLOOR.
+     */
+    public int surfaceBelow(int x, int feetY, int maxDrop)
+    {
+        if (x < 0 || x >= mapWidth) return NO_FLOOR;
+
+        int[] tops = surfaces[x];
+        for (int i = 0; i < tops.length; i++)
+        {
+            if (tops[i] > feetY + maxDrop) break;
+            if (tops[i] >= feetY) return tops[i];
+        }
+        return NO_FLOOR;
+    }
+
+    /** Slope surface Y (player center) at column x, or NO_FLOOR. */
+    public int slopeYAt(int deck, int x)
+    {
+        if (x < 0 || x >= mapWidth) return NO_FLOOR;
+        return slopeY[deck][x];
+    }
+
+    // ======================= INCREMENTAL UPDATES =======================
+
+    public void addSolid(Solid s)
+    {
+        if (solids.contains(s)) return;
+        solids.add(s);
+        rebuildColumns(solidLeft(s) - bodyHalfWidth, solidRight(s) + bodyHalfWidth);
+    }
+
+    public void removeSolid(Solid s)
+    {
+        if (!solids.remove(s)) return;
+        rebuildColumns(solidLeft(s) - bodyHalfWidth, solidRight(s) + bodyHalfWidth);
+    }
+
+    public void addSlope(SlopeArea slope)
+    {
+        if (slopes.contains(slope)) return;
+        slopes.add(slope);
+        rebuildColumns(slope.getMinX(), slope.getMaxX() + 1);
+    }
+
+    public void removeSlope(SlopeArea slope)
+    {
+        if (!slopes.remove(slope)) return;
+        rebuildColumns(slope.getMinX(), slope.getMaxX() + 1);
+    }
+
+    /** Recomputes columns [x0, x1) on every deck from the registered geometry. */
+    private void rebuildColumns(int x0, int x1)
+    {
+        x0 = Math.max(0, x0);
+        x1 = Math.min(mapWidth, x1);
+        if (x0 >= x1) return;
+
+        for (int d = 0; d < deckTops.length; d++)
+            Arrays.fill(slopeY[d], x0, x1, NO_FLOOR);
+
+        int[] tops = new int[solids.size()];
+        for (int x = x0; x < x1; x++)
+        {
+            int n = 0;
+            for (Solid s : solids)
+            {
+                if (x >= solidLeft(s) - bodyHalfWidth && x < solidRight(s) + bodyHalfWidth)
+                    tops[n++] = s.getWorldY() - s.getHeight() / 2;
+            }
+
+            if (n == 0)
+            {
+                surfaces[x] = NO_SURFACES;
+                continue;
+            }
+            Arrays.sort(tops, 0, n);
+            surfaces[x] = Arrays.copyOf(tops, n);
+        }
+
+        for (SlopeArea slope : slopes)
+        {
+            int deck = deckAt(slope.getMidY());
+
+            int from = Math.max(x0, slope.getMinX());
+            int to   = Math.min(x1, slope.getMaxX() + 1);
+            int[] row = slopeY[deck];
+            for (int x = from; x < to; x++)
+            {
+                // First registered slope wins, like the old "one slope is enough"
+                if (row[x] == NO_FLOOR) row[x] = slope.getYAtX(x);
+            }
+        }
+    }
+
+    private static int solidLeft(Solid s)
+    {
+        return s.getWorldX() - s.getWidth() / 2;
+    }
+
+    private static int solidRight(Solid s)
+    {
+        return solidLeft(s) + s.getWidth();
+    }
+}
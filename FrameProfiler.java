@@ -0,0 +1,285 @@
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-frame timing of the game's stages (world act, actor classes, background,
+ * anchors, minigames...).
+ *
+ * Code marks a stage with begin(stage) / end(stage); stages may nest and are
+ * timed inclusively. Everything a stage spends in one frame is added up and,
+ * when the next frame begins, stored in that stage's rolling window of the
+ * last WINDOW_FRAMES frames, from which p50/p95/p99 are taken. Bytes allocated
+ * by the game thread inside the stage are counted the same way.
+ *
+ * Off by default; when disabled begin() and end() return straight away.
+ * ProfilerOverlay shows the numbers, getStats() hands them to code.
+ */
+public class FrameProfiler
+{
+    public static final int WINDOW_FRAMES = 240;
+    private static final int MAX_DEPTH = 32;
+
+    /** A named stage with its rolling window. Get one with stage(name) and keep it in a static field. */
+    public static final class Stage
+    {
+        private final String name;
+
+        private final long[] nanos = new long[WINDOW_FRAMES];
+        private final long[] bytes = new long[WINDOW_FRAMES];
+        private int next = 0;
+        private int filled = 0;
+
+        // Totals of the frame in progress
+        private long frameNanos = 0;
+        private long frameBytes = 0;
+        private int frameCalls = 0;
+
+        private long totalCalls = 0;
+
+        private Stage(String name)
+        {
+            this.name = name;
+        }
+
+        public String getName()
+        {
+            return name;
+        }
+
+        private void commitFrame()
+        {
+            if (frameCalls == 0) return;
+
+            nanos[next] = frameNanos;
+            bytes[next] = frameBytes;
+            next = (next + 1) % WINDOW_FRAMES;
+            if (filled < WINDOW_FRAMES) filled++;
+
+            totalCalls += frameCalls;
+            frameNanos = 0;
+            frameBytes = 0;
+            frameCalls = 0;
+        }
+
+        private void clear()
+        {
+            next = 0;
+            filled = 0;
+            frameNanos = 0;
+            frameBytes = 0;
+            frameCalls = 0;
+            totalCalls = 0;
+        }
+    }
+
+    /** Percentiles of one stage over the frames it ran in, times in microseconds. */
+    public static final class StageStats
+    {
+        public final String name;
+        public final int frames;          // frames in the window where the stage ran
+        public final long calls;          // begin/end pairs since enabled
+        public final double p50Micros;
+        public final double p95Micros;
+        public final double p99Micros;
+        public final double maxMicros;
+        public final long p50Bytes;       // allocated per frame
+        public final long meanBytes;
+
+        private StageStats(String name, int frames, long calls, double p50, double p95, double p99,
+                           double max, long p50Bytes, long meanBytes)
+        {
+            this.name = name;
+            this.frames = frames;
+            this.calls = calls;
+            this.p50Micros = p50;
+            this.p95Micros = p95;
+            this.p99Micros = p99;
+            this.maxMicros = max;
+            this.p50Bytes = p50Bytes;
+            this.meanBytes = meanBytes;
+        }
+    }
+
+    private static final Map<String, Stage> stages = new LinkedHashMap<>();
+
+    // Whole frame: from one beginFrame() to the next
+    public static final Stage FRAME = stage("frame");
+
+    private static boolean enabled = false;
+    private static long frameStart = -1;
+    private static long frameStartBytes = 0;
+
+    // Open stages
+    private static final Stage[] stack = new Stage[MAX_DEPTH];
+    private static final long[] stackNanos = new long[MAX_DEPTH];
+    private static final long[] stackBytes = new long[MAX_DEPTH];
+    private static int depth = 0;
+
+    private static final com.sun.management.ThreadMXBean THREADS = threadBean();
+
+    private FrameProfiler() {}
+
+    private static com.sun.management.ThreadMXBean threadBean()
+    {
+        try
+        {
+            com.sun.management.ThreadMXBean bean =
+                (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+            if (bean.isThreadAllocatedMemorySupported())
+            {
+                bean.setThreadAllocatedMemoryEnabled(true);
+                return bean;
+            }
+        }
+        catch (RuntimeException | LinkageError e)
+        {
+            // Not a HotSpot-style JVM: times only
+        }
+        return null;
+    }
+
+    private static long allocatedBytes()
+    {
+        return (THREADS != null) ? THREADS.getCurrentThreadAllocatedBytes() : 0L;
+    }
+
+    /** The stage with this name, created on first use. */
+    public static synchronized Stage stage(String name)
+    {
+        Stage s = stages.get(name);
+        if (s == null)
+        {
+            s = new Stage(name);
+            stages.put(name, s);
+        }
+        return s;
+    }
+
+    public static boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    /** Turning it on starts from empty windows. */
+    public static void setEnabled(boolean on)
+    {
+        if (on == enabled) return;
+        enabled = on;
+        depth = 0;
+        frameStart = -1;
+        if (on) reset();
+    }
+
+    /** Empties every window. */
+    public static synchronized void reset()
+    {
+        for (Stage s : stages.values())
+            s.clear();
+    }
+
+    // ======================= RECORDING =======================
+
+    /** Called by the world at the start of its act(): closes the previous frame and starts a new one. */
+    public static void beginFrame()
+    {
+        if (!enabled) return;
+
+        long now = System.nanoTime();
+        long alloc = allocatedBytes();
+
+        if (frameStart >= 0)
+        {
+            FRAME.frameNanos += now - frameStart;
+            FRAME.frameBytes += alloc - frameStartBytes;
+            FRAME.frameCalls++;
+
+            synchronized (FrameProfiler.class)
+            {
+                for (Stage s : stages.values())
+                    s.commitFrame();
+            }
+        }
+
+        depth = 0;
+        frameStart = now;
+        frameStartBytes = alloc;
+    }
+
+    public static void begin(Stage s)
+    {
+        if (!enabled || depth == MAX_DEPTH) return;
+
+        stack[depth] = s;
+        stackBytes[depth] = allocatedBytes();
+        stackNanos[depth] = System.nanoTime();
+        depth++;
+    }
+
+    public static void end(Stage s)
+    {
+        if (!enabled || depth == 0 || stack[depth - 1] != s) return;
+
+        long now = System.nanoTime();
+        depth--;
+        s.frameNanos += now - stackNanos[depth];
+        s.frameBytes += allocatedBytes() - stackBytes[depth];
+        s.frameCalls++;
+        stack[depth] = null;
+    }
+
+    // ======================= READING =======================
+
+    /** Stats of every stage that ran in the window, slowest p95 first. */
+    public static synchronized List<StageStats> getStats()
+    {
+        List<StageStats> out = new ArrayList<>();
+        for (Stage s : stages.values())
+        {
+            StageStats st = statsOf(s);
+            if (st != null) out.add(st);
+        }
+        out.sort((a, b) -> Double.compare(b.p95Micros, a.p95Micros));
+        return Collections.unmodifiableList(out);
+    }
+
+    /** Stats of one stage, or null if it has not run since the window was emptied. */
+    public static synchronized StageStats getStats(String name)
+    {
+        Stage s = stages.get(name);
+        return (s != null) ? statsOf(s) : null;
+    }
+
+    private static StageStats statsOf(Stage s)
+    {
+        int n = s.filled;
+        if (n == 0) return null;
+
+        long[] t = Arrays.copyOf(s.nanos, n);
+        long[] b = Arrays.copyOf(s.bytes, n);
+        Arrays.sort(t);
+        Arrays.sort(b);
+
+        long sumBytes = 0;
+        for (long v : b) sumBytes += v;
+
+        return new StageStats(s.name, n, s.totalCalls,
+                              percentile(t, 0.50) / 1000.0,
+                              percentile(t, 0.95) / 1000.0,
+                              percentile(t, 0.99) / 1000.0,
+                              t[n - 1] / 1000.0,
+                              percentile(b, 0.50),
+                              sumBytes / n);
+    }
+
+    /** Nearest-rank percentile of a sorted array. */
+    private static long percentile(long[] sorted, double p)
+    {
+        int rank = (int)Math.ceil(p * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+}
@@ -0,0 +1,24 @@
+/**
+ * Things the player does with the keyboard. Each has a key the player can
+ * rebind (GameInput.bind) and an optional fixed alternate key.
+ */
+public enum GameAction
+{
+    MOVE_LEFT("Move Left", "a", "left"),
+    MOVE_RIGHT("Move Right", "d", "right"),
+    ASCEND("Ascend", "w", "up"),
+    DESCEND("Descend", "s", "down"),
+    INTERACT("Interact", "e", null),
+    BACK("Back", "escape", null);
+
+    public final String label;
+    public final String defaultKey;
+    public final String alternateKey;   // null = none
+
+    GameAction(String label, String defaultKey, String alternateKey)
+    {
+        this.label = label;
+        this.defaultKey = defaultKey;
+        this.alternateKey = alternateKey;
+    }
+}
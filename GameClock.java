@@ -0,0 +1,129 @@
+/**
+ * Game time for SingleplayerPlaying and its minigames.
+ *
+ * tick() is called once per frame by the world and measures real elapsed time,
+ * so timers and cooldowns keep their length whatever Greenfoot's speed slider
+ * says or when frames are dropped. A single long gap (pause, debugger,
+ * world switch) is clamped to MAX_DELTA_SECONDS.
+ *
+ * One-shot timers and cooldowns are registered with after() on a shared
+ * TimerWheel and fire from tick(); nothing is counted down per frame.
+ *
+ * setFixedDelta() makes every tick() advance a set amount instead, for
+ * headless runs that go as fast as they can but must play like real time.
+ * setNextDelta() sets the next tick() alone, for input replays.
+ *
+ * Deltas are whole microseconds, so a recorded delta replays exactly.
+ */
+public class GameClock
+{
+    public static final double MAX_DELTA_SECONDS = 0.25;
+    public static final long TIMER_TICK_MILLIS = 10;
+
+    private static final TimerWheel timers = new TimerWheel(TIMER_TICK_MILLIS);
+
+    private static long lastNanos = -1;   // -1 = next tick() starts a new measurement
+    private static long gameNanos = 0;
+    private static double delta = 0.0;
+
+    // > 0: every tick() advances exactly this many seconds (headless runs)
+    private static double fixedDelta = 0.0;
+
+    // >= 0: the next tick() advances exactly this many seconds (replays)
+    private static double nextDelta = -1.0;
+
+    private GameClock() {}
+
+    /** Advances game time by the real time since the last tick and fires due timers. */
+    public static void tick()
+    {
+        long now = System.nanoTime();
+
+        if (nextDelta >= 0.0)
+            delta = nextDelta;
+        else if (fixedDelta > 0.0)
+            delta = fixedDelta;
+        else if (lastNanos < 0)
+            delta = 0.0;
+        else
+            delta = Math.min(MAX_DELTA_SECONDS, (now - lastNanos) / 1_000_000_000.0);
+
+        delta = Math.round(delta * 1_000_000.0) / 1_000_000.0;
+        nextDelta = -1.0;
+
+        lastNanos = now;
+        gameNanos += Math.round(delta * 1_000_000_000.0);
+
+        timers.advanceTo(getTimeMillis());
+    }
+
+    /** Forgets the last tick time, so time spent paused is not counted. */
+    public static void resume()
+    {
+        lastNanos = -1;
+        GameInput.clearQueuedPresses();   // nor keys pressed while paused
+    }
+
+    /** Back to time 0 with no pending timers (a new game). */
+    public static void reset()
+    {
+        timers.reset();
+        GameInput.clearQueuedPresses();
+        lastNanos = -1;
+        gameNanos = 0;
+        delta = 0.0;
+        nextDelta = -1.0;
+    }
+
+    /** Every tick() advances exactly seconds of game time; 0 goes back to real time. */
+    public static void setFixedDelta(double seconds)
+    {
+        fixedDelta = Math.max(0.0, seconds);
+    }
+
+    /** The next tick() alone advances exactly seconds of game time. */
+    public static void setNextDelta(double seconds)
+    {
+        nextDelta = Math.max(0.0, seconds);
+    }
+
+    /** Seconds covered by the last tick(). */
+    public static double getDelta()
+    {
+        return delta;
+    }
+
+    public static long getTimeMillis()
+    {
+        return gameNanos / 1_000_000;
+    }
+
+    // ======================= TIMERS =======================
+
+    /** Runs action once, millis of game time from now. */
+    public static TimerWheel.Timer after(long millis, Runnable action)
+    {
+        return timers.schedule(millis, action);
+    }
+
+    /** A timer with no action, for cooldowns checked with isPending(). */
+    public static TimerWheel.Timer cooldown(long millis)
+    {
+        return timers.schedule(millis, () -> {});
+    }
+
+    public static boolean isPending(TimerWheel.Timer t)
+    {
+        return t != null && t.isPending();
+    }
+
+    public static void cancel(TimerWheel.Timer t)
+    {
+        if (t != null) t.cancel();
+    }
+
+    public static int getPendingTimerCount()
+    {
+        return timers.size();
+    }
+}
@@ -0,0 +1,281 @@
+import greenfoot.World;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder events of the game, all under the "SGM" category.
+ *
+ * They cost next to nothing while no recording is running, so they stay in
+ * the shipped game. To record a session, start the JVM with
+ *   -XX:StartFlightRecording=filename=sgm.jfr,settings=profile
+ * (or attach with jcmd / JDK Mission Control) and open the file in JMC:
+ * the SGM events line up with GC, JIT and thread events on the same timeline,
+ * so a long Frame can be matched with the camera move, image decode or
+ * minigame that happened in it.
+ *
+ * The per-frame events (Frame, CameraMove) are not even allocated unless a
+ * recording has them enabled.
+ */
+public final class GameEvents
+{
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_FAILURE = "failure";
+    public static final String OUTCOME_COMPLETED = "completed";
+    public static final String OUTCOME_CANCELLED = "cancelled";
+    public static final String OUTCOME_FORCED = "forced";
+
+    private GameEvents() {}
+
+    // ======================= EVENT TYPES =======================
+
+    @Name("sgm.Frame")
+    @Label("Frame")
+    @Category({"SGM", "Frames"})
+    @Description("One act cycle of SingleplayerPlaying, from the world's act() to the next one")
+    @StackTrace(false)
+    static class Frame extends Event
+    {
+        @Label("Frame Number")
+        long frame;
+
+        @Label("Game Delta (ms)")
+        double deltaMillis;
+
+        @Label("Simulation Steps")
+        int simulationSteps;
+    }
+
+    @Name("sgm.CameraMove")
+    @Label("Camera Move")
+    @Category({"SGM", "Frames"})
+    @Description("Camera recentred; the duration covers the background redraw and anchor update")
+    @StackTrace(false)
+    static class CameraMove extends Event
+    {
+        @Label("From X")
+        int fromX;
+
+        @Label("From Y")
+        int fromY;
+
+        @Label("To X")
+        int toX;
+
+        @Label("To Y")
+        int toY;
+    }
+
+    @Name("sgm.MinigameOpened")
+    @Label("Minigame Opened")
+    @Category({"SGM", "Minigames"})
+    @StackTrace(false)
+    static class MinigameOpened extends Event
+    {
+        @Label("Minigame")
+        String minigame;
+    }
+
+    @Name("sgm.Minigame")
+    @Label("Minigame")
+    @Category({"SGM", "Minigames"})
+    @Description("A minigame from opening to closing, with how it ended")
+    @StackTrace(false)
+    static class Minigame extends Event
+    {
+        @Label("Minigame")
+        String minigame;
+
+        @Label("Outcome")
+        String outcome;
+    }
+
+    @Name("sgm.MinigameLock")
+    @Label("Minigame Lock")
+    @Category({"SGM", "Minigames"})
+    @StackTrace(false)
+    static class MinigameLockChange extends Event
+    {
+        @Label("Action")
+        String action;
+
+        @Label("Granted")
+        @Description("False when tryLock() found the lock taken, or force-close found nothing open")
+        boolean granted;
+    }
+
+    @Name("sgm.MoneyTransaction")
+    @Label("Money Transaction")
+    @Category("SGM")
+    @StackTrace(false)
+    static class MoneyTransaction extends Event
+    {
+        @Label("Delta")
+        int delta;
+
+        @Label("Balance")
+        int balance;
+    }
+
+    @Name("sgm.ImageDecode")
+    @Label("Image Decode")
+    @Category({"SGM", "Assets"})
+    @Description("A whole image file decoded (ImageCache), or the source region of one map tile (TiledMap)")
+    static class ImageDecode extends Event
+    {
+        @Label("File")
+        String file;
+
+        @Label("Width")
+        int width;
+
+        @Label("Height")
+        int height;
+
+        @Label("Error")
+        String error;
+    }
+
+    // ======================= FRAMES =======================
+
+    private static final EventType FRAME_TYPE = EventType.getEventType(Frame.class);
+    private static final EventType CAMERA_MOVE_TYPE = EventType.getEventType(CameraMove.class);
+
+    private static Frame frame = null;
+    private static World frameWorld = null;
+    private static long frameNumber = 0;
+
+    /** Called by the world at the start of its act(): commits the previous frame and opens a new one. */
+    public static void beginFrame(World world)
+    {
+        // A frame left open by another world would span the time spent away from it
+        if (frame != null && frameWorld == world)
+            frame.commit();
+
+        if (!FRAME_TYPE.isEnabled())
+        {
+            frame = null;
+            frameWorld = null;
+            ++frameNumber;
+            return;
+        }
+
+        frame = new Frame();
+        frameWorld = world;
+        frame.frame = ++frameNumber;
+        frame.begin();
+    }
+
+    /** What the frame in progress simulated. */
+    public static void frameSimulated(double deltaSeconds, int steps)
+    {
+        if (frame == null) return;
+        frame.deltaMillis = deltaSeconds * 1000.0;
+        frame.simulationSteps = steps;
+    }
+
+    /** Closes the frame in progress, before the world stops or hands over to another. */
+    public static void endFrame()
+    {
+        if (frame != null)
+            frame.commit();
+        frame = null;
+        frameWorld = null;
+    }
+
+    // ======================= CAMERA =======================
+
+    /**
+     * Starts timing a camera move; hand the result to cameraMoved() once the
+     * view is updated. Null while the event is not recorded.
+     */
+    public static CameraMove beginCameraMove(int fromX, int fromY)
+    {
+        if (!CAMERA_MOVE_TYPE.isEnabled()) return null;
+
+        CameraMove e = new CameraMove();
+        e.fromX = fromX;
+        e.fromY = fromY;
+        e.begin();
+        return e;
+    }
+
+    public static void cameraMoved(CameraMove e, int toX, int toY)
+    {
+        if (e == null || (e.fromX == toX && e.fromY == toY)) return;
+        e.toX = toX;
+        e.toY = toY;
+        e.commit();
+    }
+
+    // ======================= MINIGAMES =======================
+
+    /** Records the opening and returns the event to pass to minigameClosed(). */
+    public static Minigame minigameOpened(String name)
+    {
+        MinigameOpened opened = new MinigameOpened();
+        opened.minigame = name;
+        opened.commit();
+
+        Minigame e = new Minigame();
+        e.minigame = name;
+        e.begin();
+        return e;
+    }
+
+    /** Commits the minigame with its outcome; null (never opened, or already closed) is ignored. */
+    public static void minigameClosed(Minigame e, String outcome)
+    {
+        if (e == null) return;
+        e.outcome = outcome;
+        e.commit();
+    }
+
+    public static void lockChanged(String action, boolean granted)
+    {
+        MinigameLockChange e = new MinigameLockChange();
+        if (!e.isEnabled()) return;
+        e.action = action;
+        e.granted = granted;
+        e.commit();
+    }
+
+    // ======================= MONEY =======================
+
+    public static void moneyChanged(int delta, int balance)
+    {
+        MoneyTransaction e = new MoneyTransaction();
+        if (!e.isEnabled()) return;
+        e.delta = delta;
+        e.balance = balance;
+        e.commit();
+    }
+
+    // ======================= ASSETS =======================
+
+    /** Starts timing a decode of file; finish with imageDecoded() or imageDecodeFailed(). */
+    public static ImageDecode beginImageDecode(String file)
+    {
+        ImageDecode e = new ImageDecode();
+        e.file = file;
+        e.begin();
+        return e;
+    }
+
+    public static void imageDecoded(ImageDecode e, int width, int height)
+    {
+        e.width = width;
+        e.height = height;
+        e.commit();
+    }
+
+    public static void imageDecodeFailed(ImageDecode e, Exception error)
+    {
+        e.error = String.valueOf(error.getMessage());
+        e.commit();
+    }
+}
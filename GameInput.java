@@ -0,0 +1,459 @@
+import greenfoot.*;
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keyboard and mouse state of the current frame, for the whole game.
+ *
+ * Every world calls beginFrame() at the start of its act(); it samples the
+ * keys the game uses (KEYS) into a bitset and the mouse into a few fields,
+ * and actors read those instead of asking Greenfoot. Next to held keys it
+ * tells pressed and released edges (against the previous frame) and key
+ * repeat, and maps GameActions to keys the player can rebind.
+ *
+ * Presses also carry a time: KeyEventQueue timestamps them on the AWT thread,
+ * and getPressAge() tells how long before this frame's sample a key went
+ * down, so timing rules (the fisherman's skill check) can judge the press at
+ * the moment it happened rather than at the next frame. A key pressed and
+ * released between two samples still counts as down for one frame.
+ *
+ * Everything an actor sees in one frame is the same snapshot, and it can be
+ * recorded to a log (InputRecorder) and fed back later (InputReplay): while
+ * a replay runs, beginFrame() takes each frame from the log instead of from
+ * Greenfoot, together with the frame's game delta. A log belongs to the world
+ * that takes the first frame after it starts; frames of other worlds (the
+ * options menu opened from the game) are neither recorded nor replayed.
+ *
+ * Mouse events on an actor (mousePressed(actor)...) mean the event happened
+ * with the mouse over the actor's image, so they replay without knowing
+ * which object was which.
+ */
+public final class GameInput
+{
+    /** Every key the game polls; the index is the key's bit. At most 64. */
+    public static final String[] KEYS = {
+        "a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k", "l", "m",
+        "n", "o", "p", "q", "r", "s", "t", "u", "v", "w", "x", "y", "z",
+        "0", "1", "2", "3", "4", "5", "6", "7", "8", "9",
+        "space", "backspace", "enter", "tab", "escape", "shift", "control",
+        "up", "down", "left", "right", "f3"
+    };
+
+    private static final Map<String, Integer> KEY_INDEX = new HashMap<>();
+    static
+    {
+        for (int i = 0; i < KEYS.length; i++)
+            KEY_INDEX.put(KEYS[i], i);
+    }
+
+    // Key repeat, in frames: first repeat after the delay, then every interval
+    public static final int REPEAT_DELAY_FRAMES = 12;
+    public static final int REPEAT_INTERVAL_FRAMES = 3;
+
+    // Bound key of each action (by ordinal) and the bits of all its keys
+    private static final String[] bindings = new String[GameAction.values().length];
+    private static final long[] actionMasks = new long[GameAction.values().length];
+    static
+    {
+        resetBindings();
+    }
+
+    // Mouse event bits
+    static final int MOUSE_PRESSED    = 1;
+    static final int MOUSE_CLICKED    = 1 << 1;
+    static final int MOUSE_DRAGGED    = 1 << 2;
+    static final int MOUSE_DRAG_ENDED = 1 << 3;
+    static final int MOUSE_MOVED      = 1 << 4;
+
+    // ----- snapshot of the current frame -----
+    static long keys = 0L;
+    private static long prevKeys = 0L;
+    private static final int[] heldFrames = new int[KEYS.length];
+    // Microseconds from press to sample, for keys pressed this frame (0 = not known)
+    static final int[] pressAgeMicros = new int[KEYS.length];
+    private static final long[] pressNanos = new long[KEYS.length];
+    // System.nanoTime() of the last sample, if there was one since the queue was cleared
+    private static long lastSampleNanos = 0L;
+    private static boolean hasLastSample = false;
+    static boolean hasMouse = false;
+    static int mouseX = 0;
+    static int mouseY = 0;
+    static int mouseEvents = 0;
+
+    private static InputRecorder recorder = null;
+    private static InputReplay replay = null;
+    // World whose frames go to / come from the log; null = the next one to begin a frame
+    private static World logWorld = null;
+
+    private GameInput() {}
+
+    /** Bit index of a key in KEYS, or -1 if the game does not poll it. */
+    public static int keyIndex(String key)
+    {
+        Integer i = KEY_INDEX.get(key);
+        return (i != null) ? i : -1;
+    }
+
+    // ======================= FRAME =======================
+
+    /**
+     * Takes this frame's input for world: from Greenfoot, or from the log
+     * while replaying a log that belongs to world.
+     */
+    public static void beginFrame(World world)
+    {
+        boolean logged = false;
+        if (recorder != null || replay != null)
+        {
+            if (logWorld == null) logWorld = world;
+            logged = (world == logWorld);
+        }
+
+        if (recorder != null && logged)
+            recorder.writeFrame(GameClock.getDelta());
+
+        prevKeys = keys;
+        if (!(logged && replayFrame()))
+            sample();
+
+        for (int i = 0; i < KEYS.length; i++)
+            heldFrames[i] = ((keys >>> i) & 1L) != 0 ? heldFrames[i] + 1 : 0;
+    }
+
+    /**
+     * Forgets timed presses queued so far (GameClock calls it on resume and
+     * reset), so presses made while the game was not sampling do not come
+     * back as presses of the next frame.
+     */
+    public static void clearQueuedPresses()
+    {
+        KeyEventQueue.clear();
+        hasLastSample = false;
+    }
+
+    private static boolean replayFrame()
+    {
+        if (replay == null) return false;
+
+        boolean replayed = replay.readFrame();
+        if (!replay.hasMoreFrames())
+            stopReplay();
+        return replayed;
+    }
+
+    private static void sample()
+    {
+        KeyEventQueue.install();
+
+        // Taken before draining: everything left in the queue is newer than
+        // the last sample, unless the game stopped sampling for a while.
+        // With no last sample, nothing older than the longest frame counts.
+        long now = System.nanoTime();
+        long notBefore = hasLastSample
+                         ? lastSampleNanos
+                         : now - (long)(GameClock.MAX_DELTA_SECONDS * 1_000_000_000L);
+        long queued = KeyEventQueue.drain(pressNanos, notBefore);
+        lastSampleNanos = now;
+        hasLastSample = true;
+
+        long k = 0L;
+        for (int i = 0; i < KEYS.length; i++)
+        {
+            if (Greenfoot.isKeyDown(KEYS[i]))
+                k |= 1L << i;
+        }
+
+        // Pressed and released again since the last sample: down for this frame
+        k |= queued & ~prevKeys;
+        keys = k;
+
+        for (long p = k & ~prevKeys; p != 0; p &= p - 1)
+        {
+            int i = Long.numberOfTrailingZeros(p);
+            long age = ((queued >>> i) & 1L) != 0 ? (now - pressNanos[i]) / 1000 : 0;
+            pressAgeMicros[i] = (int)Math.max(0, Math.min(Integer.MAX_VALUE, age));
+        }
+
+        MouseInfo mi = Greenfoot.getMouseInfo();
+        hasMouse = (mi != null);
+        if (hasMouse)
+        {
+            mouseX = mi.getX();
+            mouseY = mi.getY();
+        }
+
+        int ev = 0;
+        if (Greenfoot.mousePressed(null))   ev |= MOUSE_PRESSED;
+        if (Greenfoot.mouseClicked(null))   ev |= MOUSE_CLICKED;
+        if (Greenfoot.mouseDragged(null))   ev |= MOUSE_DRAGGED;
+        if (Greenfoot.mouseDragEnded(null)) ev |= MOUSE_DRAG_ENDED;
+        if (Greenfoot.mouseMoved(null))     ev |= MOUSE_MOVED;
+        mouseEvents = ev;
+    }
+
+    // ======================= KEYBOARD =======================
+
+    public static boolean isKeyDown(String key)
+    {
+        return (keys & bit(key)) != 0;
+    }
+
+    /** Down this frame and up the frame before. */
+    public static boolean isKeyPressed(String key)
+    {
+        long b = bit(key);
+        return (keys & b) != 0 && (prevKeys & b) == 0;
+    }
+
+    /** Up this frame and down the frame before. */
+    public static boolean isKeyReleased(String key)
+    {
+        long b = bit(key);
+        return (keys & b) == 0 && (prevKeys & b) != 0;
+    }
+
+    /** Like a text field: true when pressed, then while held every REPEAT_INTERVAL_FRAMES after REPEAT_DELAY_FRAMES. */
+    public static boolean isKeyRepeated(String key)
+    {
+        int i = keyIndex(key);
+        if (i < 0) return false;
+
+        int held = heldFrames[i];
+        if (held == 1) return true;
+
+        int sinceDelay = held - 1 - REPEAT_DELAY_FRAMES;
+        return sinceDelay > 0 && sinceDelay % REPEAT_INTERVAL_FRAMES == 0;
+    }
+
+    /** The first key (in KEYS order) pressed this frame, or null. */
+    public static String getPressedKey()
+    {
+        long pressed = keys & ~prevKeys;
+        return (pressed != 0) ? KEYS[Long.numberOfTrailingZeros(pressed)] : null;
+    }
+
+    /**
+     * Game seconds between key going down and this frame's sample, if it was
+     * pressed this frame; 0 when it was not, or when the press was not timed.
+     * Never more than the frame's game delta.
+     */
+    public static double getPressAge(String key)
+    {
+        int i = keyIndex(key);
+        return (i >= 0) ? pressAge(i) : 0.0;
+    }
+
+    private static double pressAge(int i)
+    {
+        if (((keys & ~prevKeys) >>> i & 1L) == 0) return 0.0;
+        return Math.min(pressAgeMicros[i] / 1_000_000.0, GameClock.getDelta());
+    }
+
+    private static long bit(String key)
+    {
+        int i = keyIndex(key);
+        return (i >= 0) ? 1L << i : 0L;
+    }
+
+    // ======================= ACTIONS =======================
+
+    public static boolean isActionDown(GameAction action)
+    {
+        return (keys & actionMasks[action.ordinal()]) != 0;
+    }
+
+    /** The action's keys went from all up to any down this frame. */
+    public static boolean isActionPressed(GameAction action)
+    {
+        long m = actionMasks[action.ordinal()];
+        return (keys & m) != 0 && (prevKeys & m) == 0;
+    }
+
+    public static boolean isActionReleased(GameAction action)
+    {
+        long m = actionMasks[action.ordinal()];
+        return (keys & m) == 0 && (prevKeys & m) != 0;
+    }
+
+    /** getPressAge() of the action's earliest key pressed this frame. */
+    public static double getActionPressAge(GameAction action)
+    {
+        double age = 0.0;
+        for (long p = keys & ~prevKeys & actionMasks[action.ordinal()]; p != 0; p &= p - 1)
+            age = Math.max(age, pressAge(Long.numberOfTrailingZeros(p)));
+        return age;
+    }
+
+    /** The rebindable key of action. */
+    public static String getBinding(GameAction action)
+    {
+        return bindings[action.ordinal()];
+    }
+
+    /**
+     * Whether key can be bound to action: the game polls it, it is not kept
+     * for something else (the profiler toggle) and it is not another
+     * action's fixed alternate, which would make one key drive two actions.
+     */
+    public static boolean isBindable(GameAction action, String key)
+    {
+        if (keyIndex(key) < 0) return false;
+        if (key.equals(ProfilerOverlay.TOGGLE_KEY)) return false;
+
+        for (GameAction other : GameAction.values())
+        {
+            if (other != action && key.equals(other.alternateKey)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Binds action to key, which must be isBindable(). An action already
+     * bound to key takes action's old key instead, so no two actions share one.
+     */
+    public static void bind(GameAction action, String key)
+    {
+        if (!isBindable(action, key)) throw new IllegalArgumentException("Key cannot be bound to " + action + ": " + key);
+
+        String old = bindings[action.ordinal()];
+        for (GameAction other : GameAction.values())
+        {
+            if (other != action && key.equals(bindings[other.ordinal()]))
+                bindings[other.ordinal()] = old;
+        }
+        bindings[action.ordinal()] = key;
+        updateActionMasks();
+    }
+
+    public static void resetBindings()
+    {
+        for (GameAction a : GameAction.values())
+            bindings[a.ordinal()] = a.defaultKey;
+        updateActionMasks();
+    }
+
+    private static void updateActionMasks()
+    {
+        for (GameAction a : GameAction.values())
+        {
+            long m = bit(bindings[a.ordinal()]);
+            if (a.alternateKey != null) m |= bit(a.alternateKey);
+            actionMasks[a.ordinal()] = m;
+        }
+    }
+
+    /** Key name as shown to the player: "A", "Escape", "Left". */
+    public static String displayName(String key)
+    {
+        if (key == null || key.isEmpty()) return "-";
+        if (key.length() == 1) return key.toUpperCase();
+        return Character.toUpperCase(key.charAt(0)) + key.substring(1);
+    }
+
+    // ======================= MOUSE =======================
+
+    /** False until the mouse has been over the world (Greenfoot's getMouseInfo() == null). */
+    public static boolean hasMouse()
+    {
+        return hasMouse;
+    }
+
+    public static int getMouseX()
+    {
+        return mouseX;
+    }
+
+    public static int getMouseY()
+    {
+        return mouseY;
+    }
+
+    /** Pressed this frame over actor, or anywhere if actor is null. */
+    public static boolean mousePressed(Actor actor)   { return mouseEvent(MOUSE_PRESSED, actor); }
+    public static boolean mouseClicked(Actor actor)   { return mouseEvent(MOUSE_CLICKED, actor); }
+    public static boolean mouseDragged(Actor actor)   { return mouseEvent(MOUSE_DRAGGED, actor); }
+    public static boolean mouseDragEnded(Actor actor) { return mouseEvent(MOUSE_DRAG_ENDED, actor); }
+    public static boolean mouseMoved(Actor actor)     { return mouseEvent(MOUSE_MOVED, actor); }
+
+    private static boolean mouseEvent(int bit, Actor actor)
+    {
+        if ((mouseEvents & bit) == 0) return false;
+        return actor == null || isUnderMouse(actor);
+    }
+
+    private static boolean isUnderMouse(Actor actor)
+    {
+        if (!hasMouse || actor.getWorld() == null) return false;
+
+        GreenfootImage img = actor.getImage();
+        if (img == null) return false;
+
+        return Math.abs(mouseX - actor.getX()) <= img.getWidth() / 2
+            && Math.abs(mouseY - actor.getY()) <= img.getHeight() / 2;
+    }
+
+    // ======================= RECORD / REPLAY =======================
+
+    /**
+     * Starts logging every frame of the world that calls the next
+     * beginFrame() to file.
+     * GameRandom is reseeded with seed, which goes in the log, so start it
+     * when a new game starts.
+     */
+    public static void startRecording(File file, long seed) throws IOException
+    {
+        stopRecording();
+        recorder = new InputRecorder(file, seed);
+        logWorld = null;
+        GameRandom.setSeed(seed);
+    }
+
+    public static void stopRecording()
+    {
+        if (recorder == null) return;
+        recorder.close();
+        recorder = null;
+        if (replay == null) logWorld = null;
+    }
+
+    public static boolean isRecording()
+    {
+        return recorder != null;
+    }
+
+    /** Writes what is buffered so far, e.g. when the scenario is paused. */
+    public static void flushRecording()
+    {
+        if (recorder != null)
+            recorder.flush();
+    }
+
+    /**
+     * Plays file back to the world that calls the next beginFrame(),
+     * reseeding GameRandom with the recorded seed; start it on a fresh game,
+     * as the recording was.
+     * isReplaying() turns false with the last frame; live input comes back after it.
+     */
+    public static void startReplay(File file) throws IOException
+    {
+        stopReplay();
+        replay = new InputReplay(file);
+        logWorld = null;
+        GameRandom.setSeed(replay.getSeed());
+    }
+
+    public static void stopReplay()
+    {
+        if (replay == null) return;
+        replay.close();
+        replay = null;
+        if (recorder == null) logWorld = null;
+    }
+
+    public static boolean isReplaying()
+    {
+        return replay != null;
+    }
+}
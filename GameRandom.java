@@ -0,0 +1,183 @@
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Random numbers for the game, all derived from one session seed.
+ *
+ * Each subsystem draws from its own Stream, so what one minigame rolls does
+ * not shift the numbers another one sees, and setSeed() replays a whole
+ * session exactly (headless runs, benchmarks, recorded input). Streams are
+ * SplitMix64 generators: a long of state, no allocation per number, no
+ * locking. A Stream belongs to one thread; code on another thread should
+ * take its own with split().
+ *
+ * Without setSeed() the session seed comes from the system clock.
+ */
+public final class GameRandom
+{
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private static final List<Stream> streams = new ArrayList<>();
+    private static long sessionSeed = mix64(System.nanoTime() ^ System.currentTimeMillis());
+
+    // Subsystem streams
+    public static final Stream FISH = stream("fish");
+    public static final Stream SKILL_CHECK = stream("skillCheck");
+    public static final Stream CAPTAIN = stream("captain");
+    public static final Stream ENGINEER = stream("engineer");
+    public static final Stream BIOLOGIST = stream("biologist");
+
+    private GameRandom() {}
+
+    /** A SplitMix64 generator. */
+    public static final class Stream
+    {
+        private final String name;   // null for streams not derived from the session seed
+        private long state;
+        private long gamma;          // always odd
+
+        /** A stream of its own seed, outside the session (e.g. to replay one set of rolls). */
+        public Stream(long seed)
+        {
+            this(null, seed);
+        }
+
+        private Stream(String name, long seed)
+        {
+            this.name = name;
+            setSeed(seed);
+        }
+
+        private Stream(long state, long gamma)
+        {
+            this.name = null;
+            this.state = state;
+            this.gamma = gamma;
+        }
+
+        public String getName()
+        {
+            return name;
+        }
+
+        /** Restarts the stream; the same seed always gives the same numbers. */
+        public void setSeed(long seed)
+        {
+            state = mix64(seed);
+            gamma = mixGamma(seed + GOLDEN_GAMMA);
+        }
+
+        public long nextLong()
+        {
+            state += gamma;
+            return mix64(state);
+        }
+
+        public int nextInt()
+        {
+            return (int)(nextLong() >>> 32);
+        }
+
+        /** Uniform in [0, bound). */
+        public int nextInt(int bound)
+        {
+            if (bound <= 0) throw new IllegalArgumentException("bound must be positive: " + bound);
+
+            int r = nextInt() >>> 1;
+            int m = bound - 1;
+            if ((bound & m) == 0)
+                return r & m;   // power of two
+
+            // Reject the top partial range so every value is equally likely
+            for (int u = r; u - (r = u % bound) + m < 0; u = nextInt() >>> 1) { }
+            return r;
+        }
+
+        /** Uniform in [0, 1). */
+        public double nextDouble()
+        {
+            return (nextLong() >>> 11) * 0x1.0p-53;
+        }
+
+        public boolean nextBoolean()
+        {
+            return nextLong() < 0;
+        }
+
+        /** A new, independent stream seeded from this one. */
+        public Stream split()
+        {
+            return new Stream(nextLong(), mixGamma(nextLong()));
+        }
+
+        /** Fisher-Yates shuffle in place. */
+        public void shuffle(List<?> list)
+        {
+            for (int i = list.size() - 1; i > 0; i--)
+                swap(list, i, nextInt(i + 1));
+        }
+
+        public <T> T pick(T[] values)
+        {
+            return values[nextInt(values.length)];
+        }
+
+        private static <T> void swap(List<T> list, int i, int j)
+        {
+            list.set(i, list.set(j, list.get(i)));
+        }
+    }
+
+    // ======================= SESSION =======================
+
+    /** Reseeds every subsystem stream from this session seed. */
+    public static synchronized void setSeed(long seed)
+    {
+        sessionSeed = seed;
+        for (Stream s : streams)
+            s.setSeed(streamSeed(seed, s.name));
+    }
+
+    public static synchronized long getSeed()
+    {
+        return sessionSeed;
+    }
+
+    /** The subsystem stream with this name, created on first use. Keep it in a static field. */
+    public static synchronized Stream stream(String name)
+    {
+        for (Stream s : streams)
+        {
+            if (s.name.equals(name)) return s;
+        }
+
+        Stream s = new Stream(name, streamSeed(sessionSeed, name));
+        streams.add(s);
+        return s;
+    }
+
+    private static long streamSeed(long seed, String name)
+    {
+        return mix64(seed ^ mix64(name.hashCode() * GOLDEN_GAMMA));
+    }
+
+    // ======================= MIXING =======================
+
+    // Stafford variant 13, as in java.util.SplittableRandom
+    private static long mix64(long z)
+    {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /** An odd gamma with enough bit transitions to make a good increment. */
+    private static long mixGamma(long z)
+    {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        int n = Long.bitCount(z ^ (z >>> 1));
+        return (n < 24) ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
+    }
+}
@@ -0,0 +1,275 @@
+import greenfoot.*;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+/**
+ * Shared cache of decoded sprites, keyed by file, size and transform.
+ *
+ * get() returns the same GreenfootImage for the same request, already scaled,
+ * mirrored and rotated, so opening a minigame again never decodes a PNG twice.
+ * The returned images are SHARED: never draw on them, scale them or rotate
+ * them. Copy first (new GreenfootImage(img)) if you need to change one.
+ *
+ * The cache keeps at most a fixed number of bytes (width * height * 4 per
+ * image) and evicts the least recently used images beyond that.
+ *
+ * Images derived from a cached one (a button's darkened hover image...) are
+ * cached the same way with getVariant(), under the same budget.
+ *
+ * Decoding happens outside the lock, so AssetPreloader workers can fill the
+ * cache in parallel while the game thread keeps reading it.
+ */
+public class ImageCache
+{
+    public static final long DEFAULT_BUDGET_BYTES = 48L * 1024 * 1024;
+
+    private static long budgetBytes = DEFAULT_BUDGET_BYTES;
+    private static long usedBytes = 0;
+
+    private static long hits = 0;
+    private static long misses = 0;
+    private static long evictions = 0;
+
+    // Key -> image, in LRU order (access-ordered)
+    private static final LinkedHashMap<Key, GreenfootImage> images =
+        new LinkedHashMap<Key, GreenfootImage>(64, 0.75f, true);
+
+    private ImageCache() {}
+
+    // ======================= LOOKUPS =======================
+
+    /** The image at its original size. */
+    public static GreenfootImage get(String file)
+    {
+        return get(file, -1, -1, false, 0);
+    }
+
+    /** The image scaled to width x height (original size if either is <= 0). */
+    public static GreenfootImage get(String file, int width, int height)
+    {
+        return get(file, width, height, false, 0);
+    }
+
+    /**
+     * The image scaled to width x height (original size if either is <= 0),
+     * then mirrored horizontally if asked, then rotated by rotation degrees.
+     */
+    public static GreenfootImage get(String file, int width, int height,
+                                     boolean mirror, int rotation)
+    {
+        if (width <= 0 || height <= 0)
+        {
+            width = -1;
+            height = -1;
+        }
+        rotation = ((rotation % 360) + 360) % 360;
+
+        Key key = new Key(file, width, height, mirror, rotation);
+        GreenfootImage original;
+        synchronized (ImageCache.class)
+        {
+            GreenfootImage img = images.get(key);
+            if (img != null)
+            {
+                hits++;
+                return img;
+            }
+            misses++;
+
+            // Reuse the untransformed image if we already have it
+            original = (width > 0 || mirror || rotation != 0)
+                ? images.get(new Key(file, -1, -1, false, 0))
+                : null;
+        }
+
+        GreenfootImage img = load(file, original, width, height, mirror, rotation);
+
+        synchronized (ImageCache.class)
+        {
+            // Another thread may have loaded it meanwhile: keep the first one
+            GreenfootImage existing = images.get(key);
+            if (existing != null) return existing;
+
+            images.put(key, img);
+            usedBytes += bytesOf(img);
+            trim();
+        }
+        return img;
+    }
+
+    /**
+     * A variant of the width x height image, made once by make from the shared
+     * image (make must return a new image, not change its argument). Keyed by
+     * the resolved size, so asking for the original size explicitly or with
+     * -1 x -1 gives the same entry.
+     */
+    public static GreenfootImage getVariant(String file, int width, int height,
+                                            String variant, UnaryOperator<GreenfootImage> make)
+    {
+        GreenfootImage base = get(file, width, height);
+
+        Key key = new Key(file, base.getWidth(), base.getHeight(), false, 0, variant);
+        synchronized (ImageCache.class)
+        {
+            GreenfootImage img = images.get(key);
+            if (img != null)
+            {
+                hits++;
+                return img;
+            }
+            misses++;
+        }
+
+        GreenfootImage img = make.apply(base);
+
+        synchronized (ImageCache.class)
+        {
+            GreenfootImage existing = images.get(key);
+            if (existing != null) return existing;
+
+            images.put(key, img);
+            usedBytes += bytesOf(img);
+            trim();
+        }
+        return img;
+    }
+
+    /** True if this exact request is already cached (does not count as a hit). */
+    public static synchronized boolean contains(String file, int width, int height)
+    {
+        if (width <= 0 || height <= 0)
+        {
+            width = -1;
+            height = -1;
+        }
+        return images.containsKey(new Key(file, width, height, false, 0));
+    }
+
+    // ======================= BUDGET =======================
+
+    public static synchronized void setBudgetBytes(long bytes)
+    {
+        budgetBytes = Math.max(0, bytes);
+        trim();
+    }
+
+    public static synchronized long getBudgetBytes() { return budgetBytes; }
+    public static synchronized long getUsedBytes()   { return usedBytes; }
+    public static synchronized int  size()           { return images.size(); }
+
+    public static synchronized void clear()
+    {
+        images.clear();
+        usedBytes = 0;
+    }
+
+    // ======================= STATS =======================
+
+    public static synchronized long getHits()      { return hits; }
+    public static synchronized long getMisses()    { return misses; }
+    public static synchronized long getEvictions() { return evictions; }
+
+    public static synchronized void resetStats()
+    {
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+
+    // ======================= HELPERS =======================
+
+    private static GreenfootImage load(String file, GreenfootImage original,
+                                       int width, int height, boolean mirror, int rotation)
+    {
+        GreenfootImage img;
+        if (original != null)
+        {
+            img = new GreenfootImage(original);
+        }
+        else
+        {
+            GameEvents.ImageDecode decode = GameEvents.beginImageDecode(file);
+            img = new GreenfootImage(file);
+            GameEvents.imageDecoded(decode, img.getWidth(), img.getHeight());
+        }
+
+        if (width > 0 && height > 0) img.scale(width, height);
+        if (mirror) img.mirrorHorizontally();
+        if (rotation != 0) img.rotate(rotation);
+
+        return img;
+    }
+
+    /** Evicts least recently used images until the cache fits the budget. */
+    private static void trim()
+    {
+        Iterator<GreenfootImage> it = images.values().iterator();
+
+        // Always keep the newest image, even if it alone is over budget
+        while (usedBytes > budgetBytes && images.size() > 1 && it.hasNext())
+        {
+            GreenfootImage eldest = it.next();
+            it.remove();
+            usedBytes -= bytesOf(eldest);
+            evictions++;
+        }
+    }
+
+    private static long bytesOf(GreenfootImage img)
+    {
+        return (long)img.getWidth() * img.getHeight() * 4;
+    }
+
+    private static final class Key
+    {
+        final String file;
+        final int width;
+        final int height;
+        final boolean mirror;
+        final int rotation;
+        final String variant;   // null for the image itself
+        final int hash;
+
+        Key(String file, int width, int height, boolean mirror, int rotation)
+        {
+            this(file, width, height, mirror, rotation, null);
+        }
+
+        Key(String file, int width, int height, boolean mirror, int rotation, String variant)
+        {
+            this.file = file;
+            this.width = width;
+            this.height = height;
+            this.mirror = mirror;
+            this.rotation = rotation;
+            this.variant = variant;
+
+            int h = file.hashCode();
+            h = 31 * h + width;
+            h = 31 * h + height;
+            h = 31 * h + (mirror ? 1 : 0);
+            h = 31 * h + rotation;
+            h = 31 * h + Objects.hashCode(variant);
+            this.hash = h;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key k = (Key)o;
+            return width == k.width && height == k.height && mirror == k.mirror
+                && rotation == k.rotation && file.equals(k.file)
+                && Objects.equals(variant, k.variant);
+        }
+    }
+}
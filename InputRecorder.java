@@ -0,0 +1,200 @@
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes GameInput's frames to a binary log (read back by InputReplay).
+ *
+ * Layout, all numbers big-endian:
+ *   header: MAGIC (int), VERSION (byte), key count (byte), GameRandom seed (long)
+ *   frame:  one flags byte, then only what changed since the previous frame:
+ *     F_KEYS   keys XOR previous keys, as an unsigned varint
+ *     F_MOUSE  hasMouse byte, then mouse dx and dy as zigzag varints
+ *     F_EVENTS mouse event bits (byte); no flag means no events
+ *     F_DELTA  game delta in microseconds minus the previous one, zigzag varint
+ *     F_PRESS_AGES for each key pressed this frame, in bit order, how many
+ *              microseconds before the sample it went down (unsigned varint);
+ *              no flag means none was timed
+ * A frame where nothing changed is the flags byte alone.
+ *
+ * Frames go to a heap buffer that is written to the file channel when it
+ * fills up, every FLUSH_FRAMES frames and on flush()/close().
+ */
+public class InputRecorder
+{
+    static final int MAGIC = 0x53474d49;   // "SGMI"
+    static final byte VERSION = 2;   // 1 had no press ages
+
+    static final int F_KEYS   = 1;
+    static final int F_MOUSE  = 1 << 1;
+    static final int F_EVENTS = 1 << 2;
+    static final int F_DELTA  = 1 << 3;
+    static final int F_PRESS_AGES = 1 << 4;
+
+    // Largest frame: flags + 10 (keys) + 1 + 5 + 5 (mouse) + 1 (events) + 10 (delta) + 5 per key (press ages)
+    private static final int MAX_FRAME_BYTES = 32 + 5 * 64;
+    private static final int BUFFER_BYTES = 16 * 1024;
+    private static final int FLUSH_FRAMES = 600;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES);
+
+    // Previous frame written
+    private long prevKeys = 0L;
+    private boolean prevHasMouse = false;
+    private int prevMouseX = 0;
+    private int prevMouseY = 0;
+    private long prevDeltaMicros = 0L;
+
+    private boolean hasFrame = false;   // GameInput holds a sampled frame not yet written
+    private int framesSinceFlush = 0;
+    private long frames = 0;
+    private boolean failed = false;
+
+    public InputRecorder(File file, long seed) throws IOException
+    {
+        channel = FileChannel.open(file.toPath(),
+                                   StandardOpenOption.CREATE,
+                                   StandardOpenOption.WRITE,
+                                   StandardOpenOption.TRUNCATE_EXISTING);
+
+        buffer.putInt(MAGIC);
+        buffer.put(VERSION);
+        buffer.put((byte)GameInput.KEYS.length);
+        buffer.putLong(seed);
+    }
+
+    public long getFrameCount()
+    {
+        return frames;
+    }
+
+    /**
+     * Called from GameInput.beginFrame() before the new frame is taken: writes
+     * the frame GameInput still holds, with the game delta it ran with.
+     */
+    void writeFrame(double deltaSeconds)
+    {
+        if (hasFrame)
+            encode(deltaSeconds);
+        hasFrame = true;
+    }
+
+    private void encode(double deltaSeconds)
+    {
+        if (failed) return;
+
+        if (buffer.remaining() < MAX_FRAME_BYTES)
+            flush();
+
+        long keys = GameInput.keys;
+        boolean hasMouse = GameInput.hasMouse;
+        int mx = GameInput.mouseX;
+        int my = GameInput.mouseY;
+        int events = GameInput.mouseEvents;
+        long deltaMicros = Math.round(deltaSeconds * 1_000_000.0);
+
+        int flags = 0;
+        if (keys != prevKeys) flags |= F_KEYS;
+        if (hasMouse != prevHasMouse || mx != prevMouseX || my != prevMouseY) flags |= F_MOUSE;
+        if (events != 0) flags |= F_EVENTS;
+        if (deltaMicros != prevDeltaMicros) flags |= F_DELTA;
+
+        long pressed = keys & ~prevKeys;
+        for (long p = pressed; p != 0; p &= p - 1)
+        {
+            if (GameInput.pressAgeMicros[Long.numberOfTrailingZeros(p)] != 0)
+            {
+                flags |= F_PRESS_AGES;
+                break;
+            }
+        }
+
+        buffer.put((byte)flags);
+        if ((flags & F_KEYS) != 0)
+            putVarLong(keys ^ prevKeys);
+        if ((flags & F_MOUSE) != 0)
+        {
+            buffer.put((byte)(hasMouse ? 1 : 0));
+            putVarLong(zigzag(mx - prevMouseX));
+            putVarLong(zigzag(my - prevMouseY));
+        }
+        if ((flags & F_EVENTS) != 0)
+            buffer.put((byte)events);
+        if ((flags & F_DELTA) != 0)
+            putVarLong(zigzag(deltaMicros - prevDeltaMicros));
+        if ((flags & F_PRESS_AGES) != 0)
+        {
+            for (long p = pressed; p != 0; p &= p - 1)
+                putVarLong(GameInput.pressAgeMicros[Long.numberOfTrailingZeros(p)]);
+        }
+
+        prevKeys = keys;
+        prevHasMouse = hasMouse;
+        prevMouseX = mx;
+        prevMouseY = my;
+        prevDeltaMicros = deltaMicros;
+        frames++;
+
+        if (++framesSinceFlush >= FLUSH_FRAMES)
+            flush();
+    }
+
+    /** Writes the buffered bytes to the file. */
+    public void flush()
+    {
+        framesSinceFlush = 0;
+        if (failed) return;
+
+        buffer.flip();
+        try
+        {
+            while (buffer.hasRemaining())
+                channel.write(buffer);
+        }
+        catch (IOException e)
+        {
+            // Stop recording, keep playing
+            failed = true;
+            System.out.println("InputRecorder: " + e.getMessage());
+        }
+        buffer.clear();
+    }
+
+    /** Writes the last frame and closes the file. */
+    public void close()
+    {
+        if (hasFrame)
+            encode(GameClock.getDelta());
+        hasFrame = false;
+
+        flush();
+        try
+        {
+            channel.close();
+        }
+        catch (IOException e)
+        {
+            System.out.println("InputRecorder: " + e.getMessage());
+        }
+    }
+
+    // ======================= ENCODING =======================
+
+    private void putVarLong(long v)
+    {
+        while ((v & ~0x7FL) != 0)
+        {
+            buffer.put((byte)((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        buffer.put((byte)v);
+    }
+
+    private static long zigzag(long v)
+    {
+        return (v << 1) ^ (v >> 63);
+    }
+}
@@ -0,0 +1,133 @@
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads a log written by InputRecorder back into GameInput, one frame per
+ * readFrame(), and sets that frame's game delta with GameClock.setNextDelta().
+ *
+ * The log is small (a byte or two per frame), so it is read whole into memory
+ * when opened.
+ */
+public class InputReplay
+{
+    private final ByteBuffer buffer;
+    private final long seed;
+
+    // Previous frame read
+    private long keys = 0L;
+    private boolean hasMouse = false;
+    private int mouseX = 0;
+    private int mouseY = 0;
+    private long deltaMicros = 0L;
+
+    private long frames = 0;
+
+    public InputReplay(File file) throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ))
+        {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) throw new IOException("Input log too large: " + file);
+
+            buffer = ByteBuffer.allocate((int)size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) { }
+            buffer.flip();
+        }
+
+        if (buffer.remaining() < 14 || buffer.getInt() != InputRecorder.MAGIC)
+            throw new IOException("Not an input log: " + file);
+        byte version = buffer.get();
+        if (version != 1 && version != InputRecorder.VERSION)
+            throw new IOException("Unsupported input log version: " + file);
+        if (buffer.get() != GameInput.KEYS.length)
+            throw new IOException("Input log was recorded with a different key set: " + file);
+
+        seed = buffer.getLong();
+    }
+
+    /** GameRandom session seed of the recorded game. */
+    public long getSeed()
+    {
+        return seed;
+    }
+
+    public long getFrameCount()
+    {
+        return frames;
+    }
+
+    boolean hasMoreFrames()
+    {
+        return buffer.hasRemaining();
+    }
+
+    /** Loads the next frame into GameInput; false once the log is over. */
+    boolean readFrame()
+    {
+        if (!buffer.hasRemaining()) return false;
+
+        int flags = buffer.get();
+        int events = 0;
+        long prevKeys = keys;
+        try
+        {
+            if ((flags & InputRecorder.F_KEYS) != 0)
+                keys ^= getVarLong();
+            if ((flags & InputRecorder.F_MOUSE) != 0)
+            {
+                hasMouse = buffer.get() != 0;
+                mouseX += (int)unzigzag(getVarLong());
+                mouseY += (int)unzigzag(getVarLong());
+            }
+            if ((flags & InputRecorder.F_EVENTS) != 0)
+                events = buffer.get();
+            if ((flags & InputRecorder.F_DELTA) != 0)
+                deltaMicros += unzigzag(getVarLong());
+
+            boolean timed = (flags & InputRecorder.F_PRESS_AGES) != 0;
+            for (long p = keys & ~prevKeys; p != 0; p &= p - 1)
+                GameInput.pressAgeMicros[Long.numberOfTrailingZeros(p)] = timed ? (int)getVarLong() : 0;
+        }
+        catch (java.nio.BufferUnderflowException e)
+        {
+            // Log cut off mid-frame (game killed while recording)
+            return false;
+        }
+
+        GameInput.keys = keys;
+        GameInput.hasMouse = hasMouse;
+        GameInput.mouseX = mouseX;
+        GameInput.mouseY = mouseY;
+        GameInput.mouseEvents = events;
+        GameClock.setNextDelta(deltaMicros / 1_000_000.0);
+
+        frames++;
+        return true;
+    }
+
+    public void close()
+    {
+        buffer.position(buffer.limit());
+    }
+
+    // ======================= DECODING =======================
+
+    private long getVarLong()
+    {
+        long v = 0L;
+        for (int shift = 0; ; shift += 7)
+        {
+            byte b = buffer.get();
+            v |= (long)(b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return v;
+        }
+    }
+
+    private static long unzigzag(long v)
+    {
+        return (v >>> 1) ^ -(v & 1);
+    }
+}
@@ -0,0 +1,38 @@
+import greenfoot.*;
+
+/**
+ * Something on the ship map the player can walk up to and use with the
+ * Interact key (E by default)
+ * (the minigame triggers).
+ *
+ * Interactables do not look for the player themselves: SingleplayerPlaying
+ * registers them with its InteractionSystem, which picks the nearest one in
+ * range each frame and only calls back into that one.
+ */
+public interface Interactable
+{
+    /** X position in MAP coordinates. */
+    int getWorldX();
+
+    /** Y position in MAP coordinates. */
+    int getWorldY();
+
+    /** How close (in pixels) the player must be to use it. */
+    int getActivationDistance();
+
+    /** False while it should be ignored completely (e.g. hidden by the tutorial). */
+    boolean isInteractionEnabled();
+
+    /** False while an Interact press should be ignored (lock, cooldowns...). */
+    boolean canInteract();
+
+    /** Shows or hides the "press E" highlight. Only called when the state changes. */
+    void setHighlighted(boolean highlighted);
+
+    /**
+     * The player pressed Interact while this was the nearest interactable and
+     * canInteract() was true. Called once per press: holding the key does not
+     * call it again.
+     */
+    void interact(World world);
+}
@@ -0,0 +1,86 @@
+import greenfoot.*;
+import java.util.ArrayList;
+
+/**
+ * Runs player interaction for every Interactable in a SingleplayerPlaying world.
+ *
+ * Once per frame it finds the nearest enabled interactable within its
+ * activation distance of the player (squared distances, map coordinates),
+ * moves the highlight to it and handles the Interact key for it alone, once
+ * per press (GameInput edge) whichever trigger is in front.
+ */
+public class InteractionSystem
+{
+    private final ArrayList<Interactable> interactables = new ArrayList<>();
+
+    // Nearest in-range interactable found last frame (the highlighted one)
+    private Interactable current = null;
+
+    public void add(Interactable i)
+    {
+        if (i != null && !interactables.contains(i))
+            interactables.add(i);
+    }
+
+    public void remove(Interactable i)
+    {
+        interactables.remove(i);
+        if (i == current) current = null;
+    }
+
+    public int size()
+    {
+        return interactables.size();
+    }
+
+    public Interactable getCurrent()
+    {
+        return current;
+    }
+
+    /** Called once per frame by the world. */
+    public void update(World world, ControllablePlayer player)
+    {
+        Interactable nearest = (player != null)
+            ? findNearest(player.getWorldX(), player.getWorldY())
+            : null;
+
+        if (nearest != current)
+        {
+            if (current != null) current.setHighlighted(false);
+            if (nearest != null) nearest.setHighlighted(true);
+            current = nearest;
+        }
+
+        if (current == null) return;
+        if (!current.canInteract()) return;
+
+        if (GameInput.isActionPressed(GameAction.INTERACT))
+            current.interact(world);
+    }
+
+    private Interactable findNearest(int px, int py)
+    {
+        Interactable best = null;
+        long bestDistSq = Long.MAX_VALUE;
+
+        // Indexed loop: no iterator allocation per frame
+        for (int i = 0; i < interactables.size(); i++)
+        {
+            Interactable it = interactables.get(i);
+            if (!it.isInteractionEnabled()) continue;
+
+            long dx = px - it.getWorldX();
+            long dy = py - it.getWorldY();
+            long distSq = dx * dx + dy * dy;
+            long range = it.getActivationDistance();
+
+            if (distSq <= range * range && distSq < bestDistSq)
+            {
+                best = it;
+                bestDistSq = distSq;
+            }
+        }
+        return best;
+    }
+}
@@ -9,24 +9,17 @@ public class JackClass extends ControllablePlayer
     private GreenfootImage[] walkLeft  = new GreenfootImage[8];
 
     private int frameIndex = 0;
-    private int animationCounter = 0;
-    private int animationSpeed = 6; // lower = faster animation
+    private double animationTime = 0.0;
+    private double frameSeconds = 0.1; // lower = faster animation
 
     public JackClass()
     {
-        // Load frames
-        GreenfootImage m1 = new GreenfootImage("jack_move1.png");
-        GreenfootImage m2 = new GreenfootImage("jack_move2.png");
-        GreenfootImage m3 = new GreenfootImage("jack_move3.png");
-        GreenfootImage m4 = new GreenfootImage("jack_move4.png");
-        GreenfootImage m5 = new GreenfootImage("jack_move5.png");
-
-        // Scale
-        m1.scale(35,100);
-        m2.scale(42,100);
-        m3.scale(50,100);
-        m4.scale(37,100);
-        m5.scale(50,100);
+        // Load frames, scaled (shared through ImageCache)
+        GreenfootImage m1 = ImageCache.get("jack_move1.png", 35, 100);
+        GreenfootImage m2 = ImageCache.get("jack_move2.png", 42, 100);
+        GreenfootImage m3 = ImageCache.get("jack_move3.png", 50, 100);
+        GreenfootImage m4 = ImageCache.get("jack_move4.png", 37, 100);
+        GreenfootImage m5 = ImageCache.get("jack_move5.png", 50, 100);
 
         // Animation order (8 frames):
         // 1 → 2 → 3 → 2 → 1 → 4 → 5 → 4 → (repeat)
@@ -39,24 +32,33 @@ public class JackClass extends ControllablePlayer
         walkRight[6] = m5;
         walkRight[7] = m4;
 
-        // Build left-facing frames
-        for (int i = 0; i < walkRight.length; i++)
-        {
-            walkLeft[i] = new GreenfootImage(walkRight[i]);
-            walkLeft[i].mirrorHorizontally();
-        }
+        // Build left-facing frames (mirrored copies, also cached)
+        GreenfootImage l1 = ImageCache.get("jack_move1.png", 35, 100, true, 0);
+        GreenfootImage l2 = ImageCache.get("jack_move2.png", 42, 100, true, 0);
+        GreenfootImage l3 = ImageCache.get("jack_move3.png", 50, 100, true, 0);
+        GreenfootImage l4 = ImageCache.get("jack_move4.png", 37, 100, true, 0);
+        GreenfootImage l5 = ImageCache.get("jack_move5.png", 50, 100, true, 0);
+
+        walkLeft[0] = l1;
+        walkLeft[1] = l2;
+        walkLeft[2] = l3;
+        walkLeft[3] = l2;
+        walkLeft[4] = l1;
+        walkLeft[5] = l4;
+        walkLeft[6] = l5;
+        walkLeft[7] = l4;
 
         // Idle frame (move1)
         setImage(m1);
     }
 
     @Override
-    protected void afterMove()
+    protected void afterMove(double dt)
     {
-        updateAnimation();
+        updateAnimation(dt);
     }
 
-    private void updateAnimation()
+    private void updateAnimation(double dt)
     {
         // Idle = move1
         if (!isMoving)
@@ -67,15 +69,15 @@ public class JackClass extends ControllablePlayer
                 setImage(walkRight[0]);
 
             frameIndex = 0;
-            animationCounter = 0;
+            animationTime = 0.0;
             return;
         }
 
         // Walking animation
-        animationCounter++;
-        if (animationCounter >= animationSpeed)
+        animationTime += dt;
+        if (animationTime >= frameSeconds)
         {
-            animationCounter = 0;
+            animationTime -= frameSeconds;
             frameIndex = (frameIndex + 1) % 8;  // 8-frame loop
         }
 
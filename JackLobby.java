@@ -8,8 +8,7 @@ public class JackLobby extends PlayerClass
 {
     public JackLobby()
     {
-        GreenfootImage img = new GreenfootImage("jack.png");
-        img.scale(150, 150);
+        GreenfootImage img = ImageCache.get("jack.png", 150, 150);
         setImage(img);
     }
 
@@ -0,0 +1,62 @@
+import greenfoot.*;
+
+/**
+ * Button showing the key bound to a GameAction. Clicking it waits for the
+ * next key press and binds that key (Escape cancels); every KeyBindButton
+ * in the world then shows its action's key again, since a rebind may have
+ * swapped two actions. A key that cannot be bound (an arrow key kept for
+ * another action, F3...) is refused and the button keeps waiting.
+ */
+public class KeyBindButton extends Button
+{
+    private final GameAction action;
+    private boolean waiting = false;
+
+    public KeyBindButton(GameAction action, int width, int height)
+    {
+        super(GameInput.displayName(GameInput.getBinding(action)), 20, "select.png", width, height, null);
+        this.action = action;
+        setAction(this::startWaiting);
+    }
+
+    public GameAction getGameAction()
+    {
+        return action;
+    }
+
+    private void startWaiting()
+    {
+        waiting = true;
+        setLabel("Press a key...");
+    }
+
+    /** Shows the action's current key. */
+    public void refresh()
+    {
+        waiting = false;
+        setLabel(GameInput.displayName(GameInput.getBinding(action)));
+    }
+
+    public void act()
+    {
+        super.act();
+        if (!waiting) return;
+
+        String key = GameInput.getPressedKey();
+        if (key == null) return;
+
+        if (!key.equals("escape"))
+        {
+            if (!GameInput.isBindable(action, key))
+            {
+                setLabel(GameInput.displayName(key) + " is taken");
+                return;
+            }
+            GameInput.bind(action, key);
+        }
+
+        World world = getWorld();
+        for (KeyBindButton b : world.getObjects(KeyBindButton.class))
+            b.refresh();
+    }
+}
@@ -0,0 +1,189 @@
+import java.awt.GraphicsEnvironment;
+import java.awt.KeyEventDispatcher;
+import java.awt.KeyboardFocusManager;
+import java.awt.event.KeyEvent;
+import java.beans.PropertyChangeListener;
+
+/**
+ * Key presses with the System.nanoTime() they happened at, taken on the AWT
+ * event thread and handed to the game thread.
+ *
+ * Greenfoot.isKeyDown() only says whether a key is down when it is polled,
+ * once per frame; this queue says when it went down, so GameInput can tell
+ * how long before its sample a press happened and catch taps that start and
+ * end between two samples.
+ *
+ * The AWT thread is the only producer and GameInput.beginFrame() the only
+ * consumer, so the queue is a single-producer single-consumer ring: the
+ * producer fills a slot and then publishes it by writing tail, the consumer
+ * reads up to tail and then frees the slots by writing head. No locks, no
+ * allocation per event. A full ring drops new presses (getDropped()).
+ *
+ * Presses are only meant for the frame that follows them: clear() drops what
+ * piled up while the game was not sampling (paused, or in another world), and
+ * drain() skips anything older than the previous sample.
+ *
+ * Where key events do not reach this VM's AWT (headless runs, or a Greenfoot
+ * that forwards keys another way) the queue stays empty and GameInput falls
+ * back to the polled state alone.
+ */
+public final class KeyEventQueue
+{
+    private static final int CAPACITY = 256;   // power of two
+    private static final int MASK = CAPACITY - 1;
+
+    // AWT key code -> GameInput key index, -1 for keys the game does not poll
+    private static final int[] KEY_CODES = new int[KeyEvent.VK_F12 + 1];
+    static
+    {
+        java.util.Arrays.fill(KEY_CODES, -1);
+        for (int c = KeyEvent.VK_A; c <= KeyEvent.VK_Z; c++)
+            map(c, String.valueOf((char)('a' + c - KeyEvent.VK_A)));
+        for (int c = KeyEvent.VK_0; c <= KeyEvent.VK_9; c++)
+            map(c, String.valueOf((char)('0' + c - KeyEvent.VK_0)));
+        map(KeyEvent.VK_SPACE, "space");
+        map(KeyEvent.VK_BACK_SPACE, "backspace");
+        map(KeyEvent.VK_ENTER, "enter");
+        map(KeyEvent.VK_TAB, "tab");
+        map(KeyEvent.VK_ESCAPE, "escape");
+        map(KeyEvent.VK_SHIFT, "shift");
+        map(KeyEvent.VK_CONTROL, "control");
+        map(KeyEvent.VK_UP, "up");
+        map(KeyEvent.VK_DOWN, "down");
+        map(KeyEvent.VK_LEFT, "left");
+        map(KeyEvent.VK_RIGHT, "right");
+        map(KeyEvent.VK_F3, "f3");
+    }
+
+    // ----- ring -----
+    private static final long[] times = new long[CAPACITY];
+    private static final byte[] keyIndices = new byte[CAPACITY];
+    private static volatile long head = 0;   // next slot to read, written by the consumer
+    private static volatile long tail = 0;   // next slot to write, written by the producer
+    private static volatile long dropped = 0;
+
+    // Producer side only: keys down as AWT saw them, to skip auto-repeat presses.
+    // Forgotten when the window loses focus, since the releases go elsewhere.
+    private static final boolean[] awtDown = new boolean[GameInput.KEYS.length];
+
+    private static boolean installed = false;
+
+    private KeyEventQueue() {}
+
+    private static void map(int keyCode, String key)
+    {
+        KEY_CODES[keyCode] = GameInput.keyIndex(key);
+    }
+
+    /** Starts listening to AWT key events; does nothing when already listening or headless. */
+    public static synchronized void install()
+    {
+        if (installed) return;
+        installed = true;
+
+        if (GraphicsEnvironment.isHeadless()) return;
+        try
+        {
+            KeyboardFocusManager focus = KeyboardFocusManager.getCurrentKeyboardFocusManager();
+            focus.addKeyEventDispatcher(DISPATCHER);
+            focus.addPropertyChangeListener("focusedWindow", FOCUS_LISTENER);
+        }
+        catch (RuntimeException e)
+        {
+            // No AWT here; polling alone still works
+            System.out.println("KeyEventQueue: " + e.getMessage());
+        }
+    }
+
+    /** Presses lost because the game thread did not drain the ring in time. */
+    public static long getDropped()
+    {
+        return dropped;
+    }
+
+    // ======================= PRODUCER (AWT thread) =======================
+
+    private static final KeyEventDispatcher DISPATCHER = new KeyEventDispatcher()
+    {
+        public boolean dispatchKeyEvent(KeyEvent e)
+        {
+            onKeyEvent(e.getID(), e.getKeyCode(), System.nanoTime());
+            return false;   // Greenfoot still gets every event
+        }
+    };
+
+    // Focus changes are delivered on the AWT thread too
+    private static final PropertyChangeListener FOCUS_LISTENER = e -> {
+        if (e.getNewValue() == null) onFocusLost();
+    };
+
+    static void onFocusLost()
+    {
+        java.util.Arrays.fill(awtDown, false);
+    }
+
+    static void onKeyEvent(int id, int keyCode, long nanos)
+    {
+        if (keyCode < 0 || keyCode >= KEY_CODES.length) return;
+        int key = KEY_CODES[keyCode];
+        if (key < 0) return;
+
+        if (id == KeyEvent.KEY_RELEASED)
+        {
+            awtDown[key] = false;
+            return;
+        }
+        if (id != KeyEvent.KEY_PRESSED || awtDown[key]) return;
+        awtDown[key] = true;
+
+        long t = tail;
+        if (t - head == CAPACITY)
+        {
+            dropped++;   // only the producer writes it
+            return;
+        }
+
+        int slot = (int)t & MASK;
+        times[slot] = nanos;
+        keyIndices[slot] = (byte)key;
+        tail = t + 1;   // publishes the slot
+    }
+
+    // ======================= CONSUMER (game thread) =======================
+
+    /**
+     * Takes every press queued since the last call, skipping those before
+     * notBeforeNanos. For each key pressed, the time of its first press goes
+     * to firstPressNanos[key index].
+     * Returns the pressed keys as a GameInput bitset.
+     */
+    static long drain(long[] firstPressNanos, long notBeforeNanos)
+    {
+        long h = head;
+        long t = tail;
+        long pressed = 0L;
+
+        for (; h < t; h++)
+        {
+            int slot = (int)h & MASK;
+            if (times[slot] - notBeforeNanos < 0) continue;   // stale (nanoTime may wrap)
+
+            int key = keyIndices[slot];
+            long bit = 1L << key;
+            if ((pressed & bit) == 0)
+            {
+                pressed |= bit;
+                firstPressNanos[key] = times[slot];
+            }
+        }
+
+        head = t;   // frees the slots
+        return pressed;
+    }
+
+    /** Drops every queued press, e.g. those made while the game was paused. */
+    static void clear()
+    {
+        head = tail;
+    }
+}
@@ -0,0 +1,46 @@
+import greenfoot.*;
+
+/**
+ * Thin progress bar showing AssetPreloader progress.
+ * Redraws only when the shown percentage changes and removes itself when done.
+ */
+public class LoadingBar extends Actor
+{
+    private final int width;
+    private final int height;
+    private int shownPercent = -1;
+
+    public LoadingBar(int width, int height)
+    {
+        this.width = width;
+        this.height = height;
+        setImage(new GreenfootImage(width, height));
+        redraw(0);
+    }
+
+    public void act()
+    {
+        int percent = (int)Math.round(AssetPreloader.getProgress() * 100);
+        if (percent != shownPercent) redraw(percent);
+
+        if (AssetPreloader.isDone())
+            getWorld().removeObject(this);
+    }
+
+    private void redraw(int percent)
+    {
+        shownPercent = percent;
+
+        GreenfootImage img = getImage();
+        img.clear();
+
+        img.setColor(new Color(0, 0, 0, 120));
+        img.fill();
+
+        img.setColor(new Color(255, 255, 255, 200));
+        img.fillRect(1, 1, (width - 2) * percent / 100, height - 2);
+
+        img.setColor(Color.WHITE);
+        img.drawRect(0, 0, width - 1, height - 1);
+    }
+}
@@ -67,5 +67,15 @@ public class MainMenu extends World
             () -> Greenfoot.stop()
         );
         addObject(exit, 180, 520);
+
+        // Decode the game's big images in the background while the menu is up
+        AssetPreloader.start();
+        if (!AssetPreloader.isDone())
+            addObject(new LoadingBar(300, 8), getWidth() / 2, getHeight() - 20);
+    }
+
+    public void act()
+    {
+        GameInput.beginFrame(this);
     }
 }
\ No newline at end of file
@@ -0,0 +1,89 @@
+import greenfoot.*;
+import java.util.ArrayList;
+
+/**
+ * Every MapAnchored actor of a SingleplayerPlaying world, in one list.
+ *
+ * SingleplayerPlaying registers actors on addObject() and unregisters them on
+ * removeObject(), so repositioning after a camera move is a single pass with
+ * no getObjects() calls.
+ *
+ * The same pass also culls: actors outside the activation region (camera view
+ * plus a margin) are detached from the Greenfoot world, so they take no part in
+ * act() or intersection queries, and are put back when the region reaches them
+ * again. They stay registered and keep their map coordinates meanwhile.
+ */
+public class MapAnchorRegistry
+{
+    private final ArrayList<MapAnchored> anchored = new ArrayList<>();
+
+    public void add(MapAnchored a)
+    {
+        if (a != null && !anchored.contains(a))
+            anchored.add(a);
+    }
+
+    public void remove(MapAnchored a)
+    {
+        anchored.remove(a);
+    }
+
+    public int size()
+    {
+        return anchored.size();
+    }
+
+    public MapAnchored get(int index)
+    {
+        return anchored.get(index);
+    }
+
+    /**
+     * Places every registered actor for the world's current camera, attaching
+     * the ones inside the activation region [minX, maxX) x [minY, maxY) (map
+     * coordinates) and detaching the rest.
+     */
+    public void repositionAll(SingleplayerPlaying world, int minX, int minY, int maxX, int maxY)
+    {
+        // Indexed loop: no iterator allocation per camera move
+        for (int i = 0; i < anchored.size(); i++)
+        {
+            MapAnchored a = anchored.get(i);
+            Actor actor = (Actor)a;
+
+            GreenfootImage img = actor.getImage();
+            int halfW = (img != null) ? img.getWidth()  / 2 : 0;
+            int halfH = (img != null) ? img.getHeight() / 2 : 0;
+
+            boolean active =
+                a.getWorldX() + halfW >= minX && a.getWorldX() - halfW < maxX &&
+                a.getWorldY() + halfH >= minY && a.getWorldY() - halfH < maxY;
+
+            if (active)
+            {
+                if (actor.getWorld() == null)
+                {
+                    world.attachAnchored(actor,
+                                         world.worldToScreenX(a.getWorldX()),
+                                         world.worldToScreenY(a.getWorldY()));
+                }
+                a.updateScreenPosition(world);
+            }
+            else if (actor.getWorld() != null)
+            {
+                world.detachAnchored(actor);
+            }
+        }
+    }
+
+    /** Number of registered actors currently attached to the world. */
+    public int countAttached()
+    {
+        int n = 0;
+        for (int i = 0; i < anchored.size(); i++)
+        {
+            if (((Actor)anchored.get(i)).getWorld() != null) n++;
+        }
+        return n;
+    }
+}
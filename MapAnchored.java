@@ -0,0 +1,22 @@
+/**
+ * An actor that lives in MAP coordinates and is placed on screen by
+ * SingleplayerPlaying according to the camera.
+ *
+ * Anything implementing this is registered automatically when it is added to
+ * SingleplayerPlaying and repositioned in the same single pass as every other
+ * anchored actor, so new anchored types need no change to the world class.
+ *
+ * Implementations must be Actors. While far from the camera they are removed
+ * from the world (getWorld() == null) and added back when the camera gets close.
+ */
+public interface MapAnchored
+{
+    /** Center X in map coordinates. */
+    int getWorldX();
+
+    /** Center Y in map coordinates. */
+    int getWorldY();
+
+    /** Move the actor on screen for the world's current camera. */
+    void updateScreenPosition(SingleplayerPlaying world);
+}
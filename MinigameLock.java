@@ -5,13 +5,16 @@ public class MinigameLock
 
     public static boolean tryLock()
     {
-        if (locked) return false;
+        boolean granted = !locked;
         locked = true;
-        return true;
+        GameEvents.lockChanged("acquire", granted);
+        return granted;
     }
 
     public static void setLocked(boolean value)
     {
+        if (value != locked)
+            GameEvents.lockChanged(value ? "acquire" : "release", true);
         locked = value;
         if (!locked)
             forceCloseCallback = null;
@@ -31,6 +34,7 @@ public class MinigameLock
     /** Immediately closes the active minigame (if any) */
     public static void forceCloseActiveMinigame()
     {
+        GameEvents.lockChanged("force-close", locked);
         if (forceCloseCallback != null)
         {
             forceCloseCallback.run();
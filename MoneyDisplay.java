@@ -10,6 +10,11 @@ public class MoneyDisplay extends Actor
     private static MoneyDisplay instance;
 
     private static final int FONT_SIZE = 24;
+    private static final Color BACKGROUND = new Color(0,0,0,128);
+
+    // Amount currently drawn by this instance
+    private int shownMoney;
+    private boolean drawn = false;
 
     private static boolean endShown = false;
 
@@ -54,6 +59,8 @@ public class MoneyDisplay extends Actor
         if (delta > 0) moneyGained += delta;
         if (delta < 0) moneyLost += -delta;
 
+        GameEvents.moneyChanged(delta, money);
+
         if (instance != null) instance.redraw();
 
         checkEndgameSchedule(); // ✅ schedule only
@@ -95,9 +102,13 @@ public class MoneyDisplay extends Actor
         EndgamePanel.show(w, pendingWin);
     }
 
+    /** Redraws only if the amount changed since the last draw. */
     private void redraw()
     {
-        String text = money + " $";
-        setImage(new GreenfootImage(text, FONT_SIZE, Color.WHITE, new Color(0,0,0,128)));
+        if (drawn && money == shownMoney) return;
+        shownMoney = money;
+        drawn = true;
+
+        setImage(TextCache.get(money + " $", FONT_SIZE, Color.WHITE, BACKGROUND, false));
     }
 }
\ No newline at end of file
@@ -80,6 +80,11 @@ public class MultiplayerLobby extends World
         
         setPaintOrder(CodeBox.class, Button.class, Couch.class, PlayerClass.class);
     }
+
+    public void act()
+    {
+        GameInput.beginFrame(this);
+    }
     
     /** show exactly this player at (x,y) */
     private void showPlayer(PlayerClass p, int x, int y) {
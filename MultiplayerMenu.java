@@ -58,6 +58,11 @@ public class MultiplayerMenu extends World
         setPaintOrder(CodeBox.class, Button.class, Text.class, PanelBoard.class);
     }
 
+    public void act()
+    {
+        GameInput.beginFrame(this);
+    }
+
     // ───────────────── PANEL HELPERS ─────────────────
 
     private void openPanel(PanelBoard newPanel, int x, int y)
@@ -90,6 +90,7 @@ public class OptionsMenu extends World
 
     public void act() 
     {
+        GameInput.beginFrame(this);
         updateMusicVolume();
     }
     
@@ -195,11 +196,11 @@ public class OptionsMenu extends World
         openPanel(controlsBoard, getWidth()/2 + 150, getHeight()/2);
         
         Button EditBtn = new Button(
-            "Edit Keybinds", 
+            "Reset Keybinds", 
             20, 
             "select.png",
             120, 40,
-            () -> { /* TODO */ }
+            () -> resetKeybinds()
         );
         addObject(EditBtn, 400, 170);
         controlsBoard.addContent(EditBtn);
@@ -214,13 +215,7 @@ public class OptionsMenu extends World
         addObject(LeftBtn, 400, 220);
         controlsBoard.addContent(LeftBtn);
         
-        Button LeftBtnSelect = new Button(
-            "A", 
-            20, 
-            "select.png",
-            220, 40,
-            () -> { /* TODO */ }
-        );
+        Button LeftBtnSelect = new KeyBindButton(GameAction.MOVE_LEFT, 220, 40);
         addObject(LeftBtnSelect, 600, 220);
         controlsBoard.addContent(LeftBtnSelect);
         
@@ -234,13 +229,7 @@ public class OptionsMenu extends World
         addObject(RightBtn, 400, 270);
         controlsBoard.addContent(RightBtn);
         
-        Button RightBtnSelect = new Button(
-            "D", 
-            20, 
-            "select.png",
-            220, 40,
-            () -> { /* TODO */ }
-        );
+        Button RightBtnSelect = new KeyBindButton(GameAction.MOVE_RIGHT, 220, 40);
         addObject(RightBtnSelect, 600, 270);
         controlsBoard.addContent(RightBtnSelect);
         
@@ -254,13 +243,7 @@ public class OptionsMenu extends World
         addObject(AscendBtn, 400, 320);
         controlsBoard.addContent(AscendBtn);
         
-        Button AscendBtnSelect = new Button(
-            "W", 
-            20, 
-            "select.png",
-            220, 40,
-            () -> { /* TODO */ }
-        );
+        Button AscendBtnSelect = new KeyBindButton(GameAction.ASCEND, 220, 40);
         addObject(AscendBtnSelect, 600, 320);
         controlsBoard.addContent(AscendBtnSelect);
         
@@ -274,13 +257,7 @@ public class OptionsMenu extends World
         addObject(DescendBtn, 400, 370);
         controlsBoard.addContent(DescendBtn);
         
-        Button DescendBtnSelect = new Button(
-            "S", 
-            20, 
-            "select.png",
-            220, 40,
-            () -> { /* TODO */ }
-        );
+        Button DescendBtnSelect = new KeyBindButton(GameAction.DESCEND, 220, 40);
         addObject(DescendBtnSelect, 600, 370);
         controlsBoard.addContent(DescendBtnSelect);
         
@@ -294,17 +271,18 @@ public class OptionsMenu extends World
         addObject(InteractBtn, 400, 420);
         controlsBoard.addContent(InteractBtn);
         
-        Button InteractBtnSelect = new Button(
-            "E", 
-            20, 
-            "select.png",
-            220, 40,
-            () -> { /* TODO */ }
-        );
+        Button InteractBtnSelect = new KeyBindButton(GameAction.INTERACT, 220, 40);
         addObject(InteractBtnSelect, 600, 420);
         controlsBoard.addContent(InteractBtnSelect);
     }
     
+    private void resetKeybinds()
+    {
+        GameInput.resetBindings();
+        for (KeyBindButton b : getObjects(KeyBindButton.class))
+            b.refresh();
+    }
+    
     private void showSoundPanel() 
     {
         int initialMaster = MusicManager.getMasterVolume();
@@ -10,6 +10,8 @@ import java.util.List;
  */
 public class PanelBoard extends Actor
 {
+    private static final FrameProfiler.Stage PROFILE = FrameProfiler.stage("act:PanelBoard");
+
     private List<Actor> contents = new ArrayList<Actor>();
     private GreenfootImage baseImage;
     
@@ -19,27 +21,24 @@ public class PanelBoard extends Actor
     
     public PanelBoard(String imageFile) 
     {
-        GreenfootImage img = new GreenfootImage(imageFile);
-        img.scale(450, 350);   // <- resize here
+        GreenfootImage img = ImageCache.get(imageFile, 450, 350);   // <- resize here
         setImage(img);
     }
     
     public PanelBoard(String imageFile, int width, int height)
     {
-        baseImage = new GreenfootImage(imageFile);
-
-        if (width > 0 && height > 0)
-        {
-            baseImage.scale(width, height);
-        }
+        baseImage = ImageCache.get(imageFile, width, height);
 
         setImage(baseImage);
     }
     
     public void act()
     {
-        if (controller != null)
-            controller.update();
+        if (controller == null) return;
+
+        FrameProfiler.begin(PROFILE);
+        controller.update();
+        FrameProfiler.end(PROFILE);
     }
     
     public void attachControllerAdapter(ControllerAdapter c)
@@ -4,8 +4,7 @@ public class PanelImage extends Actor
 {
     public PanelImage(String fileName, int w, int h)
     {
-        GreenfootImage img = new GreenfootImage(fileName);
-        if (w > 0 && h > 0) img.scale(w, h);
+        GreenfootImage img = ImageCache.get(fileName, w, h);
         setImage(img);
     }
 }
\ No newline at end of file
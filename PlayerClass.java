@@ -8,7 +8,7 @@ public class PlayerClass extends Actor
 {
     public PlayerClass()
     {
-        GreenfootImage img = new GreenfootImage("captain.png");
+        GreenfootImage img = ImageCache.get("captain.png");
         setImage(img);
     }
 
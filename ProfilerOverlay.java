@@ -0,0 +1,94 @@
+import greenfoot.*;
+import java.util.List;
+
+/**
+ * On-screen FrameProfiler table for SingleplayerPlaying, toggled with F3.
+ *
+ * Hidden, it only watches the key. Shown, it turns the profiler on and
+ * redraws its table into one reused image every REFRESH_FRAMES frames.
+ */
+public class ProfilerOverlay extends Actor
+{
+    public static final String TOGGLE_KEY = "f3";
+
+    private static final int WIDTH = 430;
+    private static final int LINE_HEIGHT = 14;
+    private static final int MAX_ROWS = 14;
+    private static final int HEIGHT = LINE_HEIGHT * (MAX_ROWS + 2) + 8;
+    private static final int REFRESH_FRAMES = 30;
+
+    private static final Color PANEL = new Color(0, 0, 0, 170);
+    private static final Color HEADER = new Color(255, 220, 120);
+    private static final Font FONT = new Font("Monospaced", false, false, 12);
+
+    private final GreenfootImage hiddenImg = new GreenfootImage(1, 1);
+    private final GreenfootImage panelImg = new GreenfootImage(WIDTH, HEIGHT);
+
+    private boolean shown = false;
+    private int framesToRefresh = 0;
+
+    public ProfilerOverlay()
+    {
+        panelImg.setFont(FONT);
+        setImage(hiddenImg);
+    }
+
+    /** Overlay centre for a top-left corner just under the HUD. */
+    public static int defaultX() { return 10 + WIDTH / 2; }
+    public static int defaultY() { return 45 + HEIGHT / 2; }
+
+    public boolean isShown()
+    {
+        return shown;
+    }
+
+    public void setShown(boolean value)
+    {
+        if (value == shown) return;
+        shown = value;
+
+        FrameProfiler.setEnabled(shown);
+        framesToRefresh = 0;
+        setImage(shown ? panelImg : hiddenImg);
+    }
+
+    public void act()
+    {
+        if (GameInput.isKeyPressed(TOGGLE_KEY))
+            setShown(!shown);
+
+        if (!shown) return;
+
+        if (--framesToRefresh <= 0)
+        {
+            framesToRefresh = REFRESH_FRAMES;
+            redraw();
+        }
+    }
+
+    private void redraw()
+    {
+        GreenfootImage img = panelImg;
+        img.clear();
+        img.setColor(PANEL);
+        img.fill();
+
+        img.setColor(HEADER);
+        img.drawString(String.format("%-24s %6s %6s %6s %7s", "stage (us)", "p50", "p95", "p99", "KB/frm"), 6, 4 + LINE_HEIGHT);
+
+        img.setColor(Color.WHITE);
+        List<FrameProfiler.StageStats> stats = FrameProfiler.getStats();
+        int rows = Math.min(MAX_ROWS, stats.size());
+        for (int i = 0; i < rows; i++)
+        {
+            FrameProfiler.StageStats s = stats.get(i);
+            String name = (s.name.length() > 24) ? s.name.substring(0, 24) : s.name;
+            img.drawString(String.format("%-24s %6.0f %6.0f %6.0f %7.1f",
+                                         name, s.p50Micros, s.p95Micros, s.p99Micros, s.meanBytes / 1024.0),
+                           6, 4 + LINE_HEIGHT * (i + 2));
+        }
+
+        if (stats.isEmpty())
+            img.drawString("collecting...", 6, 4 + LINE_HEIGHT * 2);
+    }
+}
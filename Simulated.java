@@ -0,0 +1,23 @@
+/**
+ * Something moved by the fixed-timestep SimulationLoop of SingleplayerPlaying
+ * instead of in its own act().
+ *
+ * step() advances the game state by exactly dt seconds and is where input is
+ * read and rules are applied. render() only shows that state: it places the
+ * actor between the last two steps, alpha of the way from the previous one.
+ */
+public interface Simulated
+{
+    /** Advances the simulation by one fixed step of dt seconds. */
+    void step(double dt);
+
+    /** Shows the state at alpha (0..1) between the previous step and the last one. */
+    void render(double alpha);
+
+    /**
+     * Called once per frame after the frame's steps, with the game seconds
+     * from the last step to the present (the loop's leftover). For rules
+     * that judge input at the moment it happened rather than at a step.
+     */
+    default void stepsDone(double secondsSinceStep) {}
+}
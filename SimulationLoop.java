@@ -0,0 +1,206 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Fixed-timestep simulation for SingleplayerPlaying.
+ *
+ * The world feeds it the frame's game time (GameClock.getDelta()) once per
+ * act(). That time is accumulated and spent in steps of exactly
+ * 1 / simulation rate seconds, so speeds are per second and the game plays
+ * the same at any frame rate. Whatever is left over becomes the interpolation
+ * alpha that render() uses to draw between the last two steps, and is passed
+ * to every participant's stepsDone().
+ *
+ * The render rate is separate: render() calls are skipped until
+ * 1 / render rate seconds have passed, so weak machines can draw less often
+ * without the rules changing. 0 means render every frame.
+ */
+public class SimulationLoop
+{
+    public static final int DEFAULT_SIMULATION_HZ = 60;
+    public static final int DEFAULT_RENDER_HZ = 0;
+
+    // A frame that needs more steps than this drops the rest, so a slow step cannot snowball
+    public static final int MAX_STEPS_PER_FRAME = 8;
+
+    private static int simulationHz = DEFAULT_SIMULATION_HZ;
+    private static int renderHz = DEFAULT_RENDER_HZ;
+
+    private final ArrayList<Simulated> simulated = new ArrayList<>();
+
+    // Copy of simulated that passes iterate, so a step may add or remove
+    // participants (minigame closing...). Rebuilt only after such a change;
+    // a participant removed mid-pass is nulled out so it does not run again.
+    private Simulated[] snapshot = new Simulated[8];
+    private int snapshotSize = 0;
+    private boolean snapshotDirty = false;
+
+    // FrameProfiler stages per participant class ("step:JackClass", "render:JackClass")
+    private static final Map<Class<?>, FrameProfiler.Stage> stepStages = new HashMap<>();
+    private static final Map<Class<?>, FrameProfiler.Stage> renderStages = new HashMap<>();
+
+    private double accumulator = 0.0;
+    private double sinceRender = 0.0;
+    private long stepCount = 0;
+
+    /** Steps per second of game time (applies from the next frame). */
+    public static void setSimulationRate(int hz)
+    {
+        simulationHz = Math.max(1, hz);
+    }
+
+    public static int getSimulationRate()
+    {
+        return simulationHz;
+    }
+
+    /** Renders per second; 0 renders every frame. */
+    public static void setRenderRate(int hz)
+    {
+        renderHz = Math.max(0, hz);
+    }
+
+    public static int getRenderRate()
+    {
+        return renderHz;
+    }
+
+    public static double getStepSeconds()
+    {
+        return 1.0 / simulationHz;
+    }
+
+    public void add(Simulated s)
+    {
+        if (s != null && !simulated.contains(s))
+        {
+            simulated.add(s);
+            snapshotDirty = true;
+        }
+    }
+
+    public void remove(Simulated s)
+    {
+        if (!simulated.remove(s)) return;
+        snapshotDirty = true;
+
+        for (int i = 0; i < snapshotSize; i++)
+        {
+            if (snapshot[i] == s) snapshot[i] = null;
+        }
+    }
+
+    public int size()
+    {
+        return simulated.size();
+    }
+
+    /** Steps run since this loop was created. */
+    public long getStepCount()
+    {
+        return stepCount;
+    }
+
+    /** Game seconds fed in but not yet stepped: how far the present is past the last step. */
+    public double getLeftoverSeconds()
+    {
+        return accumulator;
+    }
+
+    /**
+     * Called once per frame with the game time that passed.
+     * Runs as many fixed steps as that time covers, then renders if one is due.
+     */
+    public void advance(double deltaSeconds)
+    {
+        double dt = getStepSeconds();
+
+        accumulator += deltaSeconds;
+
+        int steps = 0;
+        while (accumulator >= dt)
+        {
+            if (steps == MAX_STEPS_PER_FRAME)
+            {
+                accumulator %= dt;
+                break;
+            }
+
+            int n = takeSnapshot();
+            for (int i = 0; i < n; i++)
+            {
+                Simulated s = snapshot[i];
+                if (s == null) continue;   // removed by an earlier step
+
+                FrameProfiler.Stage st = profileStage(stepStages, "step:", s);
+                FrameProfiler.begin(st);
+                s.step(dt);
+                FrameProfiler.end(st);
+            }
+
+            accumulator -= dt;
+            steps++;
+            stepCount++;
+        }
+
+        int n = takeSnapshot();
+        for (int i = 0; i < n; i++)
+        {
+            if (snapshot[i] != null)
+                snapshot[i].stepsDone(accumulator);
+        }
+
+        sinceRender += deltaSeconds;
+        if (renderHz > 0 && sinceRender < 1.0 / renderHz)
+            return;
+        sinceRender = (renderHz > 0) ? sinceRender % (1.0 / renderHz) : 0.0;
+
+        double alpha = Math.max(0.0, Math.min(1.0, accumulator / dt));
+        n = takeSnapshot();
+        for (int i = 0; i < n; i++)
+        {
+            Simulated s = snapshot[i];
+            if (s == null) continue;
+
+            FrameProfiler.Stage st = profileStage(renderStages, "render:", s);
+            FrameProfiler.begin(st);
+            s.render(alpha);
+            FrameProfiler.end(st);
+        }
+    }
+
+    /** Refreshes the snapshot if participants changed; returns how many it holds. */
+    private int takeSnapshot()
+    {
+        if (!snapshotDirty) return snapshotSize;
+
+        int n = simulated.size();
+        if (snapshot.length < n)
+            snapshot = new Simulated[Math.max(n, snapshot.length * 2)];
+        else if (n < snapshotSize)
+            Arrays.fill(snapshot, n, snapshotSize, null);   // no stale references
+
+        for (int i = 0; i < n; i++)
+            snapshot[i] = simulated.get(i);
+
+        snapshotSize = n;
+        snapshotDirty = false;
+        return n;
+    }
+
+    /** The participant class's stage, or null while the profiler is off. */
+    private static FrameProfiler.Stage profileStage(Map<Class<?>, FrameProfiler.Stage> stages, String prefix, Simulated s)
+    {
+        if (!FrameProfiler.isEnabled()) return null;
+
+        FrameProfiler.Stage st = stages.get(s.getClass());
+        if (st == null)
+        {
+            st = FrameProfiler.stage(prefix + s.getClass().getSimpleName());
+            stages.put(s.getClass(), st);
+        }
+        return st;
+    }
+}
@@ -65,4 +65,9 @@ public class SingleplayerLobby extends World
 
 
     }
+
+    public void act()
+    {
+        GameInput.beginFrame(this);
+    }
 }
@@ -1,5 +1,4 @@
 import greenfoot.*;  // (World, Actor, GreenfootImage, Greenfoot and MouseInfo)
-import java.util.List;
 
 /**
  * World where the player walks around a big map and the camera follows.
@@ -13,19 +12,52 @@ implements CaptainMinigameController.ResultListener,
     // Size of the visible window (camera view)
     public static final int VIEW_WIDTH  = 800;
     public static final int VIEW_HEIGHT = 600;
+
+    // Map actors stay in the world only within the view plus this margin
+    public static final int ACTIVATION_MARGIN = 200;
+
+    // Top Y of each deck band (Top ~565, Med ~765, Low ~950)
+    private static final int[] DECK_TOPS = { 0, 665, 860 };
+
+    // Half of the widest walking frame, used to bake floors under the player's footprint
+    private static final int PLAYER_HALF_WIDTH = 25;
     
-    private static GreenfootImage CACHED_MAP = null;
+    // Ship map, split into lazily decoded tiles (shared between games)
+    private static TiledMap SHARED_MAP = null;
 
-    // The big map image
-    private GreenfootImage mapImage;
+    private TiledMap map;
     private int mapWidth;
     private int mapHeight;
+
+    // Reuses two view buffers and only redraws newly exposed strips
+    private ViewportRenderer viewport;
+
+    // Every Solid as a map-space box, so collision never moves actors
+    private CollisionWorld collisionWorld;
+
+    // Floor Y per column and deck, baked from the Solids and SlopeAreas
+    private FloorHeightfield floors;
+
+    // Every actor placed in map coordinates (solids, slopes, door, triggers...)
+    private final MapAnchorRegistry anchors = new MapAnchorRegistry();
+
+    // Minigame triggers; the nearest one in range gets the highlight and the E key
+    private final InteractionSystem interactions = new InteractionSystem();
+    private ControllablePlayer player;
+
+    // Player, boat, skill-check needle: moved in fixed steps, drawn interpolated
+    private final SimulationLoop simulation = new SimulationLoop();
     
     private boolean tutorialPromptShown = false;
 
     public boolean isTutorialPromptShown() { return tutorialPromptShown; }
     public void setTutorialPromptShown(boolean v) { tutorialPromptShown = v; }
 
+    // FrameProfiler stages of this world
+    private static final FrameProfiler.Stage PROFILE_ACT = FrameProfiler.stage("world.act");
+    private static final FrameProfiler.Stage PROFILE_BACKGROUND = FrameProfiler.stage("updateBackground");
+    private static final FrameProfiler.Stage PROFILE_ANCHORS = FrameProfiler.stage("updateAllSolidPositions");
+
     // Camera top-left position in map coordinates
     private int camX = 0;
     private int camY = 0;
@@ -35,11 +67,16 @@ implements CaptainMinigameController.ResultListener,
     {  
         MusicManager.enableMenuMusic();
         MusicManager.onScenarioStarted();
+
+        // Time spent paused does not count
+        GameClock.resume();
     }
 
     @Override
     public void stopped()
     {
+        GameEvents.endFrame();
+        GameInput.flushRecording();
         MusicManager.onScenarioStopped();
     }
     
@@ -75,6 +112,7 @@ implements CaptainMinigameController.ResultListener,
         super(VIEW_WIDTH, VIEW_HEIGHT, 1, false);
 
         setPaintOrder(
+            ProfilerOverlay.class,
             Button.class, Text.class, 
             CaptainBoat.class, CaptainGoalZone.class, CaptainRock.class,
             EngineerWirePeg.class, EngineerWireLayer.class, EngineerGameBackground.class,
@@ -86,21 +124,25 @@ implements CaptainMinigameController.ResultListener,
         );
         
         MinigameLock.setLocked(false);
+
+        // New game: time 0, no timers or cooldowns left from a previous one
+        GameClock.reset();
+        FrameProfiler.setEnabled(false);
+        startInputLog();
         
         // === DEBUG ===
         Solid.DEBUG = false;      // set to false when you're happy
         SlopeArea.DEBUG = false;  // see the slope area
 
-        if (CACHED_MAP == null) {
-            GreenfootImage img = new GreenfootImage("boat3.jpg");
-            img.scale(1789, 1200);
-            CACHED_MAP = img;
-        }
-        mapImage = CACHED_MAP;
+        map = getSharedMap();
 
         // Save final size
-        mapWidth  = mapImage.getWidth();
-        mapHeight = mapImage.getHeight();
+        mapWidth  = map.getWidth();
+        mapHeight = map.getHeight();
+
+        viewport = new ViewportRenderer(map, VIEW_WIDTH, VIEW_HEIGHT);
+        collisionWorld = new CollisionWorld(mapWidth, mapHeight);
+        floors = new FloorHeightfield(mapWidth, DECK_TOPS, PLAYER_HALF_WIDTH);
 
         // Numeric boundaries (playable area)
         int playMinX = 260;              // left boundary of playable area
@@ -223,7 +265,10 @@ implements CaptainMinigameController.ResultListener,
         Button mainMenu = new Button(
             "MainMenu",
             "button1.png",
-            () -> Greenfoot.setWorld(new MainMenu())
+            () -> {
+                GameInput.stopRecording();   // the game is over, menu frames are not part of it
+                Greenfoot.setWorld(new MainMenu());
+            }
         );
         addObject(mainMenu, 700, 20);
 
@@ -244,6 +289,9 @@ implements CaptainMinigameController.ResultListener,
         
         FishLeftDisplay leftDisplay = new FishLeftDisplay();
         addObject(leftDisplay, VIEW_WIDTH / 2 - 100, 20);
+
+        // --- Frame profiler table (F3) ---
+        addObject(new ProfilerOverlay(), ProfilerOverlay.defaultX(), ProfilerOverlay.defaultY());
         
         // --- Debug ---
         //MoneyDisplay.debugSetMoney(1900);
@@ -256,6 +304,35 @@ implements CaptainMinigameController.ResultListener,
         TutorialController.maybeShowTutorial(this);
     }
     
+    /**
+     * Records this game's input when the JVM runs with -Dsgm.recordInput=<file or
+     * folder>, or replays a log given with -Dsgm.replayInput=<file>.
+     */
+    private static void startInputLog()
+    {
+        String replayPath = System.getProperty("sgm.replayInput");
+        String recordPath = System.getProperty("sgm.recordInput");
+
+        try
+        {
+            if (replayPath != null)
+            {
+                GameInput.startReplay(new java.io.File(replayPath));
+            }
+            else if (recordPath != null)
+            {
+                java.io.File file = new java.io.File(recordPath);
+                if (file.isDirectory())
+                    file = new java.io.File(file, "input-" + System.currentTimeMillis() + ".sgmi");
+                GameInput.startRecording(file, System.nanoTime());
+            }
+        }
+        catch (java.io.IOException e)
+        {
+            System.out.println("Input log: " + e.getMessage());
+        }
+    }
+
     private void injectDebugFish()
     {
         if (FishermanFishData.hasPendingCaught())
@@ -268,9 +345,90 @@ implements CaptainMinigameController.ResultListener,
         FishermanFishData.logAttempt(debugFish, true);
     }
     
+    /**
+     * Registers map-anchored actors and keeps the collision world and floor
+     * heightfield in sync with the level geometry.
+     */
+    @Override
+    public void addObject(Actor object, int x, int y)
+    {
+        super.addObject(object, x, y);
+
+        if (object instanceof MapAnchored)
+            anchors.add((MapAnchored)object);
+
+        if (object instanceof Interactable)
+            interactions.add((Interactable)object);
+
+        if (object instanceof ControllablePlayer)
+            player = (ControllablePlayer)object;
+
+        if (object instanceof Simulated)
+            simulation.add((Simulated)object);
+
+        if (object instanceof Solid && collisionWorld != null)
+        {
+            collisionWorld.add((Solid)object);
+            floors.addSolid((Solid)object);
+        }
+        else if (object instanceof SlopeArea && floors != null)
+        {
+            floors.addSlope((SlopeArea)object);
+        }
+    }
+
+    @Override
+    public void removeObject(Actor object)
+    {
+        super.removeObject(object);
+
+        if (object instanceof MapAnchored)
+            anchors.remove((MapAnchored)object);
+
+        if (object instanceof Interactable)
+            interactions.remove((Interactable)object);
+
+        if (object == player)
+            player = null;
+
+        if (object instanceof Simulated)
+            simulation.remove((Simulated)object);
+
+        if (object instanceof Solid && collisionWorld != null)
+        {
+            collisionWorld.remove((Solid)object);
+            floors.removeSolid((Solid)object);
+        }
+        else if (object instanceof SlopeArea && floors != null)
+        {
+            floors.removeSlope((SlopeArea)object);
+        }
+    }
+
+    /** The ship map, created on first use. AssetPreloader may create it before any game starts. */
+    public static synchronized TiledMap getSharedMap()
+    {
+        if (SHARED_MAP == null) {
+            SHARED_MAP = new TiledMap("boat3.jpg", 1789, 1200);
+        }
+        return SHARED_MAP;
+    }
+
+    public CollisionWorld getCollisionWorld()
+    {
+        return collisionWorld;
+    }
+
+    public FloorHeightfield getFloors()
+    {
+        return floors;
+    }
+
     /** Center the camera around a position in MAP coordinates. */
     public void centerOn(int worldX, int worldY)
     {
+        GameEvents.CameraMove move = GameEvents.beginCameraMove(camX, camY);
+
         camX = worldX - VIEW_WIDTH / 2;
         camY = worldY - VIEW_HEIGHT / 2;
 
@@ -280,6 +438,8 @@ implements CaptainMinigameController.ResultListener,
 
         updateBackground();
         updateAllSolidPositions();
+
+        GameEvents.cameraMoved(move, camX, camY);
     }
 
     /** Convert map/world X to screen X. */
@@ -316,81 +476,63 @@ implements CaptainMinigameController.ResultListener,
         return mapHeight;
     }
 
-    /** Draw the visible part of the big background into the world. */
+    /** Draw the visible part of the big background into the world (no-op if the camera did not move). */
     private void updateBackground()
     {
-        GreenfootImage view = new GreenfootImage(VIEW_WIDTH, VIEW_HEIGHT);
-        view.drawImage(mapImage, -camX, -camY);
-        setBackground(view);
+        FrameProfiler.begin(PROFILE_BACKGROUND);
+        GreenfootImage view = viewport.render(camX, camY);
+        if (view != null)
+            setBackground(view);
+        FrameProfiler.end(PROFILE_BACKGROUND);
     }
 
-    /** Reposition all Solid, SlopeArea, StairTrigger and CaptainMinigameTrigger blocks according to the current camera. */
+    /**
+     * Reposition every map-anchored actor (solids, slopes, door, triggers) according to the current camera.
+     * Actors outside the view plus ACTIVATION_MARGIN are detached from the world until the camera comes back.
+     */
     private void updateAllSolidPositions()
     {
-        List<Solid> solids = getObjects(Solid.class);
-        for (Solid s : solids)
-        {
-            s.updateScreenPosition(this);
-        }
-    
-        List<SlopeArea> slopes = getObjects(SlopeArea.class);
-        for (SlopeArea sa : slopes)
-        {
-            sa.updateScreenPosition(this);
-        }
-    
-        // Door
-        List<Door> door = getObjects(Door.class);
-        for (Door d : door)
-        {
-            d.updateScreenPosition(this);
-        }
-        
-        // Stair triggers
-        List<StairTrigger> triggers = getObjects(StairTrigger.class);
-        for (StairTrigger st : triggers)
-        {
-            st.updateScreenPosition(this);
-        }
+        FrameProfiler.begin(PROFILE_ANCHORS);
+        anchors.repositionAll(this,
+                              camX - ACTIVATION_MARGIN, camY - ACTIVATION_MARGIN,
+                              camX + VIEW_WIDTH + ACTIVATION_MARGIN, camY + VIEW_HEIGHT + ACTIVATION_MARGIN);
+        FrameProfiler.end(PROFILE_ANCHORS);
+    }
 
-        // Captain minigame trigger
-        List<CaptainMinigameTrigger> captainTriggers =
-            getObjects(CaptainMinigameTrigger.class);
-        for (CaptainMinigameTrigger ct : captainTriggers)
-        {
-            ct.updateScreenPosition(this);
-        }
-        
-        // Engineer minigame trigger
-        List<EngineerMinigameTrigger> engineerTriggers = getObjects(EngineerMinigameTrigger.class);
-        for (EngineerMinigameTrigger et : engineerTriggers)
-        {
-            et.updateScreenPosition(this);
-        }
-        
-        // Fisherman minigame trigger
-        List<FishermanMinigameTrigger> fishTriggers = getObjects(FishermanMinigameTrigger.class);
-        for (FishermanMinigameTrigger ft : fishTriggers)
-        {
-            ft.updateScreenPosition(this);
-        }
-        
-        // Biologist minigame trigger
-        List<BiologistMinigameTrigger> bioTriggers = getObjects(BiologistMinigameTrigger.class);
-        for (BiologistMinigameTrigger bt : bioTriggers)
-        {
-            bt.updateScreenPosition(this);
-        }
+    /** Puts a culled map-anchored actor back into the world (it is still registered). */
+    void attachAnchored(Actor actor, int screenX, int screenY)
+    {
+        super.addObject(actor, screenX, screenY);
+    }
+
+    /** Takes a map-anchored actor out of the world without unregistering it. */
+    void detachAnchored(Actor actor)
+    {
+        super.removeObject(actor);
     }
 
-    /** Called once per frame. Used here to tick the minigame reopen cooldown. */
+    /**
+     * Called once per frame. Advances the game clock (timers, cooldowns), runs the
+     * fixed simulation steps that time covers and renders, then runs trigger interaction.
+     */
     public void act()
     {
+        // The world acts first, so this is where a frame starts
+        FrameProfiler.beginFrame();
+        FrameProfiler.begin(PROFILE_ACT);
+        GameEvents.beginFrame(this);
+        GameInput.beginFrame(this);
+
+        GameClock.tick();
+
+        long stepsBefore = simulation.getStepCount();
+        simulation.advance(GameClock.getDelta());
+        GameEvents.frameSimulated(GameClock.getDelta(), (int)(simulation.getStepCount() - stepsBefore));
+
         MoneyDisplay.processEndgameIfPending(this);
-        
-        CaptainMinigameController.tickReopenTimer();
-        EngineerMinigameController.tickReopenTimer();
-        FishermanMinigameController.tickReopenTimer();
-        BiologistMinigameController.tickReopenTimer();
+
+        interactions.update(this, player);
+
+        FrameProfiler.end(PROFILE_ACT);
     }
 }
@@ -34,16 +34,14 @@ public class Slider extends Actor
 
     public void act()
     {
-        MouseInfo mi = Greenfoot.getMouseInfo();
-    
         // start dragging when mouse pressed on this slider
-        if (Greenfoot.mousePressed(this)) {
+        if (GameInput.mousePressed(this)) {
             dragging = true;
         }
     
         // while dragging, follow the mouse
-        if (dragging && mi != null) {
-            int mouseX = mi.getX();
+        if (dragging && GameInput.hasMouse()) {
+            int mouseX = GameInput.getMouseX();
     
             int imgLeft = getX() - imageWidth / 2;
             int trackLeft = imgLeft + trackStartX;
@@ -59,7 +57,7 @@ public class Slider extends Actor
         }
     
         // stop dragging on drag end *or* simple click release
-        if (dragging && (Greenfoot.mouseDragEnded(null) || Greenfoot.mouseClicked(null))) {
+        if (dragging && (GameInput.mouseDragEnded(null) || GameInput.mouseClicked(null))) {
             dragging = false;
         }
     }
@@ -4,7 +4,7 @@ import greenfoot.*;
  * A mathematical sloped floor defined by two world-coordinate points (x1,y1) to (x2,y2).
  * The collision surface is the line between those points.
  */
-public class SlopeArea extends Actor
+public class SlopeArea extends Actor implements MapAnchored
 {
     public static boolean DEBUG = false;
 
@@ -78,6 +78,12 @@ public class SlopeArea extends Actor
         return Math.max(x1, x2);
     }
 
+    /** Y halfway along the slope (used to decide which deck it belongs to). */
+    public int getMidY()
+    {
+        return (y1 + y2) / 2;
+    }
+
     /**
      * Returns the Y coordinate of the slope line at the given world X.
      * Assumes x1 != x2.
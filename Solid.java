@@ -4,12 +4,14 @@ import greenfoot.*;
  * Invisible collision block that lives in MAP coordinates.
  * SingleplayerPlaying will position it on screen based on the camera.
  */
-public class Solid extends Actor
+public class Solid extends Actor implements MapAnchored
 {
     public static boolean DEBUG = false;   // ← toggle this to show/hide solids
     
     private int worldX;
     private int worldY;  // center position in map/world coordinates
+    private int width;
+    private int height;
 
     public Solid(int width, int height, int worldX, int worldY)
     {
@@ -29,6 +31,8 @@ public class Solid extends Actor
 
         this.worldX = worldX;
         this.worldY = worldY;
+        this.width = width;
+        this.height = height;
     }
 
     public int getWorldX()
@@ -41,6 +45,16 @@ public class Solid extends Actor
         return worldY;
     }
 
+    public int getWidth()
+    {
+        return width;
+    }
+
+    public int getHeight()
+    {
+        return height;
+    }
+
     /** Update this solid's on-screen position based on the current camera. */
     public void updateScreenPosition(SingleplayerPlaying world)
     {
@@ -5,7 +5,7 @@ import greenfoot.*;
  * Shows a visible icon ONLY when the player is touching it.
  * Supports image scaling AND rotation.
  */
-public class StairTrigger extends Actor
+public class StairTrigger extends Actor implements MapAnchored
 {
     public static final int TYPE_UP = 1;
     public static final int TYPE_DOWN = -1;
@@ -41,16 +41,8 @@ public class StairTrigger extends Actor
         this.targetX = targetX;
         this.targetY = targetY;
 
-        // Load the icon (replace with your PNG)
-        visibleImage = new GreenfootImage("blue-arrow.png");
-
-        // Scale
-        if (scaleW > 0 && scaleH > 0)
-            visibleImage.scale(scaleW, scaleH);
-
-        // Rotate
-        if (rotation != 0)
-            visibleImage.rotate(rotation);
+        // Load the icon, scaled and rotated (shared with the other stair triggers)
+        visibleImage = ImageCache.get("blue-arrow.png", scaleW, scaleH, false, rotation);
 
         // Start invisible
         GreenfootImage invisible = new GreenfootImage(visibleImage.getWidth(), visibleImage.getHeight());
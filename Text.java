@@ -23,16 +23,44 @@ public class Text extends Actor
         updateText(content, fontSize, color);
     }
 
+    /** Changes the text only; redraws nothing if it is the same. */
+    public void setText(String content)
+    {
+        updateText(content, fontSize, color);
+    }
+
+    public String getText()
+    {
+        return content;
+    }
+
+    /**
+     * Changes text, size and color. The actor keeps its place in the world;
+     * the image is only replaced when something actually changed.
+     */
     public void updateText(String content, int fontSize, Color color)
     {
+        if (content.equals(this.content)
+            && fontSize == this.fontSize && color.equals(this.color))
+            return;
+
         this.content = content;
         this.fontSize = fontSize;
         this.color = color;
 
-        setImage(createTextImage());
+        // Shared image from TextCache (never drawn on)
+        setImage(TextCache.get(content, fontSize, color, outlined));
     }
 
-    private GreenfootImage createTextImage()
+    /**
+     * Renders content with a 1px black outline (used by TextCache).
+     *
+     * The glyphs are rendered once. The outline is the glyph alpha dilated
+     * over the 8 neighbours, combined the way 8 overlapping black copies would
+     * be (alpha = 1 - product of (1 - a)), and the text is composited on top,
+     * all in one pass over the pixel array.
+     */
+    static GreenfootImage renderOutlined(String content, int fontSize, Color color)
     {
         GreenfootImage base = new GreenfootImage(
             content,
@@ -41,34 +69,67 @@ public class Text extends Actor
             new Color(0,0,0,0)
         );
 
-        if (!outlined)
-            return base;
+        int w = base.getWidth();
+        int h = base.getHeight();
+        int[] src = base.getAwtImage().getRGB(0, 0, w, h, null, 0, w);
+
+        // Glyph coverage with a 2px transparent border, so the loop needs no bounds checks.
+        // Undo the text color's own alpha: the outline is always opaque black.
+        int colorAlpha = Math.max(1, color.getAlpha());
+        int mw = w + 4;
+        int[] mask = new int[mw * (h + 4)];
+        for (int y = 0; y < h; y++)
+        {
+            for (int x = 0; x < w; x++)
+            {
+                int a = src[y * w + x] >>> 24;
+                mask[(y + 2) * mw + x + 2] = Math.min(255, a * 255 / colorAlpha);
+            }
+        }
+
+        int ow = w + 2;
+        int oh = h + 2;
+        int[] out = new int[ow * oh];
 
-        // Create slightly bigger image for outline
-        GreenfootImage outlinedImg =
-            new GreenfootImage(base.getWidth() + 2, base.getHeight() + 2);
+        for (int y = 0; y < oh; y++)
+        {
+            for (int x = 0; x < ow; x++)
+            {
+                // Output (x, y) sees mask (x - ox, y - oy) for the 8 offsets around (1, 1);
+                // in padded mask coordinates that is rows y..y+2, columns x..x+2 minus the centre
+                int top = y * mw + x;
+                int mid = top + mw;
+                int bot = mid + mw;
 
-        // Outline color
-        Color outlineColor = Color.BLACK;
+                int inv = 255 * 255;  // (1 - outline alpha), scaled by 255^2
+                inv = inv * (255 - mask[top])     / 255;
+                inv = inv * (255 - mask[top + 1]) / 255;
+                inv = inv * (255 - mask[top + 2]) / 255;
+                inv = inv * (255 - mask[mid])     / 255;
+                inv = inv * (255 - mask[mid + 2]) / 255;
+                inv = inv * (255 - mask[bot])     / 255;
+                inv = inv * (255 - mask[bot + 1]) / 255;
+                inv = inv * (255 - mask[bot + 2]) / 255;
+                int outlineA = 255 - (inv + 127) / 255;
 
-        // Draw outline (8 directions)
-        GreenfootImage outlineText =
-            new GreenfootImage(content, fontSize, outlineColor, new Color(0,0,0,0));
+                // Main text drawn on top at (1, 1)
+                int textArgb = (x >= 1 && x <= w && y >= 1 && y <= h) ? src[(y - 1) * w + (x - 1)] : 0;
+                int textA = textArgb >>> 24;
 
-        outlinedImg.drawImage(outlineText, 0, 1);
-        outlinedImg.drawImage(outlineText, 2, 1);
-        outlinedImg.drawImage(outlineText, 1, 0);
-        outlinedImg.drawImage(outlineText, 1, 2);
+                int a = textA + (outlineA * (255 - textA) + 127) / 255;
+                if (a == 0) continue;
 
-        // Corners (optional but looks nicer)
-        outlinedImg.drawImage(outlineText, 0, 0);
-        outlinedImg.drawImage(outlineText, 2, 0);
-        outlinedImg.drawImage(outlineText, 0, 2);
-        outlinedImg.drawImage(outlineText, 2, 2);
+                // Black outline adds no color, only alpha
+                int r = (((textArgb >> 16) & 0xFF) * textA + a / 2) / a;
+                int g = (((textArgb >> 8)  & 0xFF) * textA + a / 2) / a;
+                int b = (( textArgb        & 0xFF) * textA + a / 2) / a;
 
-        // Draw main text on top
-        outlinedImg.drawImage(base, 1, 1);
+                out[y * ow + x] = (a << 24) | (r << 16) | (g << 8) | b;
+            }
+        }
 
+        GreenfootImage outlinedImg = new GreenfootImage(ow, oh);
+        outlinedImg.getAwtImage().setRGB(0, 0, ow, oh, out, 0, ow);
         return outlinedImg;
     }
 }
\ No newline at end of file
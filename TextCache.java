@@ -0,0 +1,111 @@
+import greenfoot.*;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Shared cache of rendered text images, keyed by string, font size, colors
+ * and outline, so labels that show the same text again (counters, HUD values,
+ * countdowns) are not re-rendered.
+ *
+ * Like ImageCache, the returned images are SHARED: never draw on them.
+ * Least recently used entries are dropped past MAX_ENTRIES.
+ */
+public class TextCache
+{
+    public static final int MAX_ENTRIES = 256;
+
+    private static final Color TRANSPARENT = new Color(0, 0, 0, 0);
+
+    private static long hits = 0;
+    private static long misses = 0;
+
+    private static final LinkedHashMap<Key, GreenfootImage> images =
+        new LinkedHashMap<Key, GreenfootImage>(64, 0.75f, true) {
+            protected boolean removeEldestEntry(Map.Entry<Key, GreenfootImage> eldest) {
+                return size() > MAX_ENTRIES;
+            }
+        };
+
+    private TextCache() {}
+
+    /** Text on a transparent background, optionally with a black outline. */
+    public static GreenfootImage get(String content, int fontSize, Color color, boolean outlined)
+    {
+        return get(content, fontSize, color, TRANSPARENT, outlined);
+    }
+
+    public static synchronized GreenfootImage get(String content, int fontSize, Color color,
+                                                  Color background, boolean outlined)
+    {
+        Key key = new Key(content, fontSize, color, background, outlined);
+        GreenfootImage img = images.get(key);
+        if (img != null)
+        {
+            hits++;
+            return img;
+        }
+
+        misses++;
+        img = outlined
+            ? Text.renderOutlined(content, fontSize, color)
+            : new GreenfootImage(content, fontSize, color, background);
+        images.put(key, img);
+        return img;
+    }
+
+    public static synchronized int size()    { return images.size(); }
+    public static synchronized long getHits()   { return hits; }
+    public static synchronized long getMisses() { return misses; }
+
+    public static synchronized void clear()
+    {
+        images.clear();
+    }
+
+    private static final class Key
+    {
+        final String content;
+        final int fontSize;
+        final int color;
+        final int background;
+        final boolean outlined;
+        final int hash;
+
+        Key(String content, int fontSize, Color color, Color background, boolean outlined)
+        {
+            this.content = content;
+            this.fontSize = fontSize;
+            this.color = argb(color);
+            this.background = argb(background);
+            this.outlined = outlined;
+
+            int h = content.hashCode();
+            h = 31 * h + fontSize;
+            h = 31 * h + this.color;
+            h = 31 * h + this.background;
+            h = 31 * h + (outlined ? 1 : 0);
+            this.hash = h;
+        }
+
+        private static int argb(Color c)
+        {
+            return (c.getAlpha() << 24) | (c.getRed() << 16) | (c.getGreen() << 8) | c.getBlue();
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key k = (Key)o;
+            return fontSize == k.fontSize && color == k.color && background == k.background
+                && outlined == k.outlined && content.equals(k.content);
+        }
+    }
+}
@@ -0,0 +1,321 @@
+import greenfoot.*;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+/**
+ * Big map image split into fixed-size tiles that are decoded on demand.
+ *
+ * A tile is decoded (just its source region) and scaled to map size on the
+ * map's own decoder thread the first time it is asked for, and kept in a
+ * size-bounded LRU cache, so memory stays flat however big the map gets.
+ *
+ * Every cached tile is a future, and the cache lock is only held to look one
+ * up. getTile() never decodes and never waits: a tile not decoded yet comes
+ * back null, and draw() fills its area black and reports it, so the caller
+ * draws again later. A tile that failed to decode is drawn black for good
+ * (until evicted, when it is tried again).
+ */
+public class TiledMap
+{
+    public static final int DEFAULT_TILE_SIZE = 256;
+    public static final int DEFAULT_MAX_CACHED_TILES = 32;
+
+    private final String imageFile;
+    private final int mapWidth;
+    private final int mapHeight;
+    private final int tileSize;
+    private final int cols;
+    private final int rows;
+    private final int maxCachedTiles;
+
+    // Tile index (row * cols + col) -> decoded tile, in LRU order; guarded by itself
+    private final LinkedHashMap<Integer, CompletableFuture<BufferedImage>> tiles;
+
+    // Decodes one tile at a time: the reader below is only touched on this thread
+    private final ExecutorService decoder;
+
+    // Source image reader, opened on the decoder thread (kept open so each tile only decodes its region)
+    private ImageReader reader;
+    private ImageInputStream input;
+    private int sourceWidth;
+    private int sourceHeight;
+
+    public TiledMap(String imageFile, int mapWidth, int mapHeight)
+    {
+        this(imageFile, mapWidth, mapHeight, DEFAULT_TILE_SIZE, DEFAULT_MAX_CACHED_TILES);
+    }
+
+    public TiledMap(String imageFile, int mapWidth, int mapHeight, int tileSize, int maxCachedTiles)
+    {
+        this.imageFile = imageFile;
+        this.mapWidth = mapWidth;
+        this.mapHeight = mapHeight;
+        this.tileSize = tileSize;
+        this.cols = (mapWidth  + tileSize - 1) / tileSize;
+        this.rows = (mapHeight + tileSize - 1) / tileSize;
+        this.maxCachedTiles = Math.max(1, maxCachedTiles);
+
+        tiles = new LinkedHashMap<Integer, CompletableFuture<BufferedImage>>(16, 0.75f, true) {
+            protected boolean removeEldestEntry(Map.Entry<Integer, CompletableFuture<BufferedImage>> eldest) {
+                return size() > TiledMap.this.maxCachedTiles;
+            }
+        };
+
+        decoder = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "TiledMap " + imageFile);
+            t.setDaemon(true);   // never keeps the JVM alive
+            return t;
+        });
+    }
+
+    public int getWidth()  { return mapWidth; }
+    public int getHeight() { return mapHeight; }
+    public int getTileSize() { return tileSize; }
+
+    /** Tiles cached and decoded (pending and failed ones not counted). */
+    public int getCachedTileCount()
+    {
+        synchronized (tiles)
+        {
+            int n = 0;
+            for (CompletableFuture<BufferedImage> f : tiles.values())
+            {
+                if (f.isDone() && !f.isCompletedExceptionally()) n++;
+            }
+            return n;
+        }
+    }
+
+    /**
+     * Draws the map rectangle (srcX, srcY, w, h) at (dstX, dstY) in g.
+     * Only the tiles that intersect the rectangle are touched. Tiles not
+     * decoded yet are filled black; returns false if there were any.
+     */
+    public boolean draw(Graphics2D g, int srcX, int srcY, int w, int h, int dstX, int dstY)
+    {
+        int x0 = Math.max(0, srcX);
+        int y0 = Math.max(0, srcY);
+        int x1 = Math.min(mapWidth,  srcX + w);
+        int y1 = Math.min(mapHeight, srcY + h);
+        if (x0 >= x1 || y0 >= y1) return true;
+
+        int firstCol = x0 / tileSize, lastCol = (x1 - 1) / tileSize;
+        int firstRow = y0 / tileSize, lastRow = (y1 - 1) / tileSize;
+
+        boolean complete = true;
+        for (int row = firstRow; row <= lastRow; row++)
+        {
+            int tileTop = row * tileSize;
+            int ty0 = Math.max(y0, tileTop);
+            int ty1 = Math.min(y1, tileTop + tileSize);
+
+            for (int col = firstCol; col <= lastCol; col++)
+            {
+                int tileLeft = col * tileSize;
+                int tx0 = Math.max(x0, tileLeft);
+                int tx1 = Math.min(x1, tileLeft + tileSize);
+
+                CompletableFuture<BufferedImage> f = request(col, row);
+                BufferedImage tile = decoded(f);
+                if (tile == null)
+                {
+                    if (!f.isDone()) complete = false;   // failed tiles stay black
+                    g.setColor(java.awt.Color.BLACK);
+                    g.fillRect(dstX + tx0 - srcX, dstY + ty0 - srcY, tx1 - tx0, ty1 - ty0);
+                    continue;
+                }
+
+                g.drawImage(tile,
+                            dstX + tx0 - srcX, dstY + ty0 - srcY,
+                            dstX + tx1 - srcX, dstY + ty1 - srcY,
+                            tx0 - tileLeft, ty0 - tileTop,
+                            tx1 - tileLeft, ty1 - tileTop,
+                            null);
+            }
+        }
+        return complete;
+    }
+
+    /**
+     * The tile at (col, row), or null until the decoder thread has decoded it
+     * (or if it failed to decode). Never decodes on the calling thread.
+     */
+    public BufferedImage getTile(int col, int row)
+    {
+        return decoded(request(col, row));
+    }
+
+    /**
+     * Queues every tile under the map rectangle (x, y, w, h) for decoding;
+     * the future completes once they are all decoded or failed.
+     */
+    public CompletableFuture<Void> prefetch(int x, int y, int w, int h)
+    {
+        int x0 = Math.max(0, x), y0 = Math.max(0, y);
+        int x1 = Math.min(mapWidth, x + w), y1 = Math.min(mapHeight, y + h);
+
+        List<CompletableFuture<?>> pending = new ArrayList<>();
+        for (int row = y0 / tileSize; row <= (y1 - 1) / tileSize; row++)
+        {
+            for (int col = x0 / tileSize; col <= (x1 - 1) / tileSize; col++)
+                pending.add(request(col, row).handle((tile, error) -> null));
+        }
+        return CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0]));
+    }
+
+    /** Drops every cached tile (they will be decoded again when needed). */
+    public void clearCache()
+    {
+        synchronized (tiles)
+        {
+            tiles.clear();
+        }
+    }
+
+    // ======================= DECODING =======================
+
+    /** The cached future for the tile, queueing its decode if there is none. */
+    private CompletableFuture<BufferedImage> request(int col, int row)
+    {
+        Integer key = row * cols + col;
+        CompletableFuture<BufferedImage> f;
+        synchronized (tiles)
+        {
+            f = tiles.get(key);
+            if (f != null) return f;
+
+            f = new CompletableFuture<>();
+            tiles.put(key, f);
+        }
+
+        CompletableFuture<BufferedImage> tile = f;
+        decoder.execute(() -> decodeInto(tile, key, col, row));
+        return f;
+    }
+
+    private static BufferedImage decoded(CompletableFuture<BufferedImage> f)
+    {
+        return (f.isDone() && !f.isCompletedExceptionally()) ? f.join() : null;
+    }
+
+    /** Runs on the decoder thread. */
+    private void decodeInto(CompletableFuture<BufferedImage> f, Integer key, int col, int row)
+    {
+        synchronized (tiles)
+        {
+            // Evicted (or cache cleared) while queued: nobody is waiting for it
+            if (tiles.get(key) != f)
+            {
+                f.cancel(false);
+                return;
+            }
+        }
+
+        try
+        {
+            f.complete(decodeTile(col, row));
+        }
+        catch (Throwable t)
+        {
+            // Even an Error: a pending tile would keep the view redrawing forever
+            f.completeExceptionally(t);
+            System.out.println("TiledMap: failed to decode tile " + col + "," + row + " of " + imageFile + " (" + t + ")");
+        }
+    }
+
+    private BufferedImage decodeTile(int col, int row) throws IOException
+    {
+        if (reader == null) openReader();
+
+        int tileLeft = col * tileSize;
+        int tileTop  = row * tileSize;
+        int tw = Math.min(tileSize, mapWidth  - tileLeft);
+        int th = Math.min(tileSize, mapHeight - tileTop);
+
+        double scaleX = mapWidth  / (double)sourceWidth;
+        double scaleY = mapHeight / (double)sourceHeight;
+
+        // Source region with one pixel of padding so neighbouring tiles blend without seams
+        int sx0 = Math.max(0, (int)Math.floor(tileLeft / scaleX) - 1);
+        int sy0 = Math.max(0, (int)Math.floor(tileTop  / scaleY) - 1);
+        int sx1 = Math.min(sourceWidth,  (int)Math.ceil((tileLeft + tw) / scaleX) + 1);
+        int sy1 = Math.min(sourceHeight, (int)Math.ceil((tileTop  + th) / scaleY) + 1);
+
+        GameEvents.ImageDecode decode = GameEvents.beginImageDecode(imageFile);
+        BufferedImage region;
+        try
+        {
+            ImageReadParam param = reader.getDefaultReadParam();
+            param.setSourceRegion(new java.awt.Rectangle(sx0, sy0, sx1 - sx0, sy1 - sy0));
+            region = reader.read(0, param);
+            GameEvents.imageDecoded(decode, region.getWidth(), region.getHeight());
+        }
+        catch (IOException | RuntimeException e)
+        {
+            GameEvents.imageDecodeFailed(decode, e);
+            throw e;
+        }
+
+        BufferedImage tile = new BufferedImage(tw, th, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = tile.createGraphics();
+        try
+        {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.translate(-tileLeft, -tileTop);
+            g.scale(scaleX, scaleY);
+            g.drawImage(region, sx0, sy0, null);
+        }
+        finally
+        {
+            g.dispose();
+        }
+        return tile;
+    }
+
+    private void openReader() throws IOException
+    {
+        InputStream in = openImageStream();
+        if (in == null) throw new IOException("Image not found: " + imageFile);
+
+        ImageInputStream stream = ImageIO.createImageInputStream(in);
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(stream);
+        if (!readers.hasNext()) throw new IOException("No reader for " + imageFile);
+
+        ImageReader r = readers.next();
+        r.setInput(stream, false, true);
+
+        // Header only, no pixels yet
+        sourceWidth  = r.getWidth(0);
+        sourceHeight = r.getHeight(0);
+        input = stream;
+        reader = r;
+    }
+
+    private InputStream openImageStream() throws IOException
+    {
+        URL url = TiledMap.class.getClassLoader().getResource("images/" + imageFile);
+        if (url != null) return url.openStream();
+
+        File file = new File("images", imageFile);
+        if (file.exists()) return new java.io.FileInputStream(file);
+
+        return null;
+    }
+}
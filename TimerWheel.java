@@ -0,0 +1,190 @@
+/**
+ * Hierarchical timing wheel.
+ *
+ * Time advances in fixed ticks. Level 0 has one slot per tick for the next 64
+ * ticks, level 1 one slot per 64 ticks, and so on. A timer sits in the slot of
+ * the coarsest level that still separates it from "now"; when a lower level
+ * wraps around, the matching slot of the next level is spread back down.
+ * Scheduling and cancelling are O(1) and advancing costs one slot visit per
+ * elapsed tick plus the timers that actually fire or cascade, however many
+ * timers are waiting.
+ */
+public class TimerWheel
+{
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+
+    // Furthest delta (in ticks) that fits in the wheel; later timers are parked and re-placed
+    private static final long MAX_SPAN = 1L << (SLOT_BITS * LEVELS);
+
+    /** One scheduled action. cancel() it to drop it. */
+    public static final class Timer
+    {
+        private final TimerWheel wheel;
+        private final Runnable action;
+        private long expiresTick;
+
+        // Slot list links (null level = not in the wheel)
+        private Timer prev, next;
+        private int level = -1;
+        private int slot;
+
+        private Timer(TimerWheel wheel, long expiresTick, Runnable action)
+        {
+            this.wheel = wheel;
+            this.expiresTick = expiresTick;
+            this.action = action;
+        }
+
+        /** True until it fires or is cancelled. */
+        public boolean isPending()
+        {
+            return level >= 0;
+        }
+
+        public void cancel()
+        {
+            if (level >= 0) wheel.unlink(this);
+        }
+
+        /** Milliseconds left before it fires (0 if no longer pending). */
+        public long getRemainingMillis()
+        {
+            if (level < 0) return 0;
+            return Math.max(0, (expiresTick - wheel.currentTick) * wheel.tickMillis);
+        }
+    }
+
+    private final long tickMillis;
+    private long currentTick = 0;
+
+    private final Timer[][] slots = new Timer[LEVELS][SLOTS];
+    private int pending = 0;
+
+    public TimerWheel(long tickMillis)
+    {
+        this.tickMillis = Math.max(1, tickMillis);
+    }
+
+    public long getTickMillis() { return tickMillis; }
+    public int size()           { return pending; }
+
+    /** Current wheel time in milliseconds (a multiple of the tick). */
+    public long getTimeMillis()
+    {
+        return currentTick * tickMillis;
+    }
+
+    /** Runs action once, delayMillis from now (rounded up to whole ticks, at least one). */
+    public Timer schedule(long delayMillis, Runnable action)
+    {
+        long ticks = Math.max(1, (delayMillis + tickMillis - 1) / tickMillis);
+        Timer t = new Timer(this, currentTick + ticks, action);
+        insert(t);
+        return t;
+    }
+
+    /** Cancels every pending timer. */
+    public void clear()
+    {
+        for (int level = 0; level < LEVELS; level++)
+        {
+            for (int slot = 0; slot < SLOTS; slot++)
+            {
+                while (slots[level][slot] != null)
+                    unlink(slots[level][slot]);
+            }
+        }
+    }
+
+    /** Cancels every pending timer and sets the time back to 0. */
+    public void reset()
+    {
+        clear();
+        currentTick = 0;
+    }
+
+    /** Advances to nowMillis, firing every timer that expires on the way, in order. */
+    public void advanceTo(long nowMillis)
+    {
+        long target = nowMillis / tickMillis;
+
+        while (currentTick < target)
+        {
+            currentTick++;
+
+            // Level 0 wrapped: bring the next level's slot down (and further up if it wrapped too)
+            for (int level = 1; level < LEVELS; level++)
+            {
+                if (((currentTick >>> (SLOT_BITS * (level - 1))) & SLOT_MASK) != 0) break;
+                cascade(level, (int)((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK));
+            }
+
+            if (pending == 0) continue;
+
+            int slot = (int)(currentTick & SLOT_MASK);
+            Timer t;
+            while ((t = slots[0][slot]) != null)
+            {
+                unlink(t);
+                if (t.expiresTick > currentTick)
+                    insert(t);           // parked beyond the wheel's span
+                else
+                    t.action.run();      // may schedule or cancel other timers
+            }
+        }
+    }
+
+    // ======================= SLOT LISTS =======================
+
+    private void insert(Timer t)
+    {
+        long delta = t.expiresTick - currentTick;
+        long at = t.expiresTick;
+
+        if (delta >= MAX_SPAN)
+        {
+            // Too far: park in the furthest slot, it is re-placed when cascaded
+            at = currentTick + MAX_SPAN - 1;
+            delta = MAX_SPAN - 1;
+        }
+
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= (1L << (SLOT_BITS * (level + 1))))
+            level++;
+
+        int slot = (int)((at >>> (SLOT_BITS * level)) & SLOT_MASK);
+
+        t.level = level;
+        t.slot = slot;
+        t.prev = null;
+        t.next = slots[level][slot];
+        if (t.next != null) t.next.prev = t;
+        slots[level][slot] = t;
+        pending++;
+    }
+
+    private void unlink(Timer t)
+    {
+        if (t.prev != null) t.prev.next = t.next;
+        else slots[t.level][t.slot] = t.next;
+        if (t.next != null) t.next.prev = t.prev;
+
+        t.prev = null;
+        t.next = null;
+        t.level = -1;
+        pending--;
+    }
+
+    private void cascade(int level, int slot)
+    {
+        Timer t;
+        while ((t = slots[level][slot]) != null)
+        {
+            unlink(t);
+            insert(t);
+        }
+    }
+}
@@ -2,6 +2,8 @@ import greenfoot.*;
 
 public class TutorialArrow extends Actor
 {
+    private static final FrameProfiler.Stage PROFILE = FrameProfiler.stage("act:TutorialArrow");
+
     private int targetWorldX;
     private int targetWorldY;
 
@@ -14,13 +16,19 @@ public class TutorialArrow extends Actor
         this.targetWorldX = targetWorldX;
         this.targetWorldY = targetWorldY;
 
-        GreenfootImage img = new GreenfootImage(imageFile);
         // optional sizing:
-        img.scale(80, 50);
+        GreenfootImage img = ImageCache.get(imageFile, 80, 50);
         setImage(img);
     }
 
     public void act()
+    {
+        FrameProfiler.begin(PROFILE);
+        pointAtTarget();
+        FrameProfiler.end(PROFILE);
+    }
+
+    private void pointAtTarget()
     {
         World w = getWorld();
         if (!(w instanceof SingleplayerPlaying)) return;
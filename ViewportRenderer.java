@@ -0,0 +1,107 @@
+import greenfoot.*;
+import java.awt.Graphics2D;
+
+/**
+ * Double-buffered camera view used by SingleplayerPlaying.
+ *
+ * Two view-sized buffers are allocated once. When the camera moves, the
+ * previous frame is copied into the back buffer shifted by the camera delta,
+ * only the newly exposed strips are drawn from the map, and the buffers are
+ * swapped. If the camera did not move, nothing is drawn at all, unless the
+ * last frame had map tiles still decoding: then the view is redrawn until
+ * they have all arrived.
+ */
+public class ViewportRenderer
+{
+    private final int viewWidth;
+    private final int viewHeight;
+
+    private final TiledMap map;
+
+    // front = currently shown as the world background, back = being drawn
+    private GreenfootImage front;
+    private GreenfootImage back;
+
+    private int lastCamX;
+    private int lastCamY;
+    private boolean hasFrame = false;
+    private boolean missingTiles = false;
+
+    public ViewportRenderer(TiledMap map, int viewWidth, int viewHeight)
+    {
+        this.viewWidth = viewWidth;
+        this.viewHeight = viewHeight;
+        this.map = map;
+
+        front = new GreenfootImage(viewWidth, viewHeight);
+        back  = new GreenfootImage(viewWidth, viewHeight);
+    }
+
+    /**
+     * Renders the view for the given camera top-left (map coordinates).
+     * Returns the image to show, or null if the camera has not moved.
+     */
+    public GreenfootImage render(int camX, int camY)
+    {
+        if (hasFrame && missingTiles)
+            hasFrame = false;   // draw it all again with the tiles decoded since
+
+        if (hasFrame && camX == lastCamX && camY == lastCamY)
+            return null;
+
+        missingTiles = false;
+
+        int dx = camX - lastCamX;
+        int dy = camY - lastCamY;
+
+        Graphics2D g = back.getAwtImage().createGraphics();
+        try
+        {
+            if (!hasFrame || Math.abs(dx) >= viewWidth || Math.abs(dy) >= viewHeight)
+            {
+                // Nothing reusable: draw the whole view once
+                drawMap(g, camX, camY, 0, 0, viewWidth, viewHeight);
+            }
+            else
+            {
+                // Reuse last frame, shifted opposite to the camera movement
+                g.drawImage(front.getAwtImage(), -dx, -dy, null);
+
+                // Columns exposed by horizontal movement
+                if (dx > 0)      drawMap(g, camX, camY, viewWidth - dx, 0, dx, viewHeight);
+                else if (dx < 0) drawMap(g, camX, camY, 0, 0, -dx, viewHeight);
+
+                // Rows exposed by vertical movement
+                if (dy > 0)      drawMap(g, camX, camY, 0, viewHeight - dy, viewWidth, dy);
+                else if (dy < 0) drawMap(g, camX, camY, 0, 0, viewWidth, -dy);
+            }
+        }
+        finally
+        {
+            g.dispose();
+        }
+
+        GreenfootImage shown = back;
+        back = front;
+        front = shown;
+
+        lastCamX = camX;
+        lastCamY = camY;
+        hasFrame = true;
+
+        return front;
+    }
+
+    /** Forces the next render() to redraw the whole view. */
+    public void invalidate()
+    {
+        hasFrame = false;
+    }
+
+    /** Copies the map region under the view rectangle (x, y, w, h) into g. */
+    private void drawMap(Graphics2D g, int camX, int camY, int x, int y, int w, int h)
+    {
+        if (!map.draw(g, camX + x, camY + y, w, h, x, y))
+            missingTiles = true;
+    }
+}
@@ -8,6 +8,7 @@ public class WorldNavigator
     public static void goTo(World from, World next)
     {
         previousWorld = from;
+        GameEvents.endFrame();
         Greenfoot.setWorld(next);
     }
 
@@ -17,6 +18,9 @@ public class WorldNavigator
         {
             World w = previousWorld;
             previousWorld = null;
+
+            // Time spent in the other world does not count (started() is not called on a switch)
+            GameClock.resume();
             Greenfoot.setWorld(w);
         }
         else
@@ -0,0 +1,40 @@
+package sgm.game;
+
+import greenfoot.HeadlessRuntime;
+import greenfoot.World;
+
+/**
+ * Worlds for the benchmarks, run on the headless Greenfoot runtime.
+ */
+final class BenchSupport
+{
+    static final double STEP_SECONDS = 1.0 / 60.0;
+    static final long SEED = 1;
+
+    private BenchSupport() { }
+
+    /** A fresh SingleplayerPlaying with the tutorial prompt closed and no input held. */
+    static SingleplayerPlaying newGame()
+    {
+        System.setProperty("java.awt.headless", "true");
+        GameClock.setFixedDelta(STEP_SECONDS);
+        GameRandom.setSeed(SEED);
+
+        SingleplayerPlaying world = new SingleplayerPlaying();
+        HeadlessRuntime.setWorld(world);
+        HeadlessRuntime.resetInput();
+        MinigameLock.forceCloseActiveMinigame();
+        return world;
+    }
+
+    /** An empty 800x600 world for actors that only need a location. */
+    static World emptyWorld()
+    {
+        System.setProperty("java.awt.headless", "true");
+
+        World world = new World(SingleplayerPlaying.VIEW_WIDTH, SingleplayerPlaying.VIEW_HEIGHT, 1) { };
+        HeadlessRuntime.setWorld(world);
+        HeadlessRuntime.resetInput();
+        return world;
+    }
+}
@@ -0,0 +1,45 @@
+package sgm.game;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Button construction as menus and panels do it (image and hover image
+ * already cached after the first one, label drawn every time).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ButtonBenchmark
+{
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        BenchSupport.emptyWorld();
+    }
+
+    @Benchmark
+    public Button defaultSize()
+    {
+        return new Button("Options", "button1.png", null);
+    }
+
+    @Benchmark
+    public Button scaledTwoLines()
+    {
+        return new Button("Skip\nTutorial", 20, "button1.png", 200, 45, null);
+    }
+}
@@ -0,0 +1,79 @@
+package sgm.game;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * SingleplayerPlaying.centerOn(): background update plus repositioning and
+ * culling of the map-anchored actors.
+ *
+ * pan    - walking speed steps, so only thin strips of the view are redrawn
+ * jump   - alternates between two far apart spots (stairs teleport), whole view redrawn
+ * still  - same spot every time, the background is left alone
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CameraBenchmark
+{
+    private static final int PAN_STEP = 3;
+    private static final int Y = 765;
+
+    private SingleplayerPlaying world;
+    private int panX;
+    private int panDir;
+    private boolean jumpFlip;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        world = BenchSupport.newGame();
+
+        // Tiles decode on the map's own thread: have the panned band ready
+        SingleplayerPlaying.getSharedMap()
+            .prefetch(0, Y - SingleplayerPlaying.VIEW_HEIGHT / 2, world.getMapWidth(), SingleplayerPlaying.VIEW_HEIGHT)
+            .join();
+        panX = SingleplayerPlaying.VIEW_WIDTH / 2;
+        panDir = PAN_STEP;
+        jumpFlip = false;
+    }
+
+    @Benchmark
+    public int pan()
+    {
+        panX += panDir;
+        if (panX <= SingleplayerPlaying.VIEW_WIDTH / 2 || panX >= world.getMapWidth() - SingleplayerPlaying.VIEW_WIDTH / 2)
+            panDir = -panDir;
+
+        world.centerOn(panX, Y);
+        return world.worldToScreenX(0);
+    }
+
+    @Benchmark
+    public int jump()
+    {
+        jumpFlip = !jumpFlip;
+        world.centerOn(jumpFlip ? 400 : world.getMapWidth() - 400, jumpFlip ? 565 : 950);
+        return world.worldToScreenX(0);
+    }
+
+    @Benchmark
+    public int still()
+    {
+        world.centerOn(world.getMapWidth() / 2, Y);
+        return world.worldToScreenX(0);
+    }
+}
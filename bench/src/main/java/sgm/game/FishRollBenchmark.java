@@ -0,0 +1,38 @@
+package sgm.game;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * FishermanFishData.rollFish(): the weighted species roll done when a
+ * Fisherman minigame opens.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FishRollBenchmark
+{
+    @Setup
+    public void seed()
+    {
+        GameRandom.setSeed(BenchSupport.SEED);
+    }
+
+    @Benchmark
+    public FishSpecies rollFish()
+    {
+        return FishermanFishData.rollFish();
+    }
+}
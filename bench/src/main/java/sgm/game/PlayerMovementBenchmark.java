@@ -0,0 +1,81 @@
+package sgm.game;
+
+import greenfoot.HeadlessRuntime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ControllablePlayer walking: one fixed simulation step (input, collision,
+ * step up/down, slopes), and the same followed by the camera-following render.
+ * The player walks back and forth so walls and slopes are hit along the way.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PlayerMovementBenchmark
+{
+    // Steps walked in one direction before turning around
+    private static final int STEPS_PER_LEG = 240;
+
+    private ControllablePlayer player;
+    private int steps;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        SingleplayerPlaying world = BenchSupport.newGame();
+        player = world.getObjects(ControllablePlayer.class).get(0);
+        steps = 0;
+        HeadlessRuntime.keyDown("d");
+        GameInput.beginFrame(world);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+    {
+        HeadlessRuntime.resetInput();
+    }
+
+    private void turnAtEndOfLeg()
+    {
+        if (++steps % STEPS_PER_LEG != 0) return;
+
+        boolean right = HeadlessRuntime.isKeyDown("d");
+        HeadlessRuntime.keyUp(right ? "d" : "a");
+        HeadlessRuntime.keyDown(right ? "a" : "d");
+
+        // The player reads the per-frame snapshot, which world.act() would take
+        GameInput.beginFrame(player.getWorld());
+    }
+
+    @Benchmark
+    public int step()
+    {
+        turnAtEndOfLeg();
+        player.step(BenchSupport.STEP_SECONDS);
+        return player.getWorldX();
+    }
+
+    @Benchmark
+    public int stepAndRender()
+    {
+        turnAtEndOfLeg();
+        player.step(BenchSupport.STEP_SECONDS);
+        player.render(1.0);
+        return player.getX();
+    }
+}
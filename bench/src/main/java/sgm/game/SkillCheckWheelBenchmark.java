@@ -0,0 +1,55 @@
+package sgm.game;
+
+import greenfoot.GreenfootImage;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * FishermanSkillCheckWheel redraw through its per-frame path: a needle
+ * frame (restore the old needle's box, draw the new needle) and a retarget
+ * (static layer rebaked, whole image restored).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SkillCheckWheelBenchmark
+{
+    private FishermanSkillCheckWheel wheel;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        BenchSupport.emptyWorld();
+        wheel = new FishermanSkillCheckWheel(320, 90.0, 228.0, 28.0);
+        wheel.setPaused(false);
+    }
+
+    @Benchmark
+    public GreenfootImage needleFrame()
+    {
+        wheel.step(BenchSupport.STEP_SECONDS);
+        wheel.render(1.0);
+        return wheel.getImage();
+    }
+
+    @Benchmark
+    public GreenfootImage retarget()
+    {
+        wheel.randomizeNextTarget(60.0, 180.0);
+        wheel.render(1.0);
+        return wheel.getImage();
+    }
+}
@@ -0,0 +1,59 @@
+package sgm.game;
+
+import greenfoot.Color;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Text actors: a label seen before (TextCache hit), labels that are always
+ * new (cache miss, so the glyphs and outline are rendered), and the outline
+ * renderer on its own.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TextBenchmark
+{
+    // More distinct strings than TextCache holds, so every one is a miss
+    private static final int DISTINCT = 1024;
+
+    private int counter = 0;
+
+    @Benchmark
+    public Text cachedOutlined()
+    {
+        return new Text("Money: 100$", 24, Color.WHITE, true);
+    }
+
+    @Benchmark
+    public Text uncachedOutlined()
+    {
+        counter = (counter + 1) % DISTINCT;
+        return new Text("Money: " + counter + "$", 24, Color.WHITE, true);
+    }
+
+    @Benchmark
+    public Text uncachedPlain()
+    {
+        counter = (counter + 1) % DISTINCT;
+        return new Text("Hits: " + counter, 22, Color.WHITE, false);
+    }
+
+    @Benchmark
+    public Object renderOutlined()
+    {
+        counter = (counter + 1) % DISTINCT;
+        return Text.renderOutlined("Fish left: " + counter, 24, Color.WHITE);
+    }
+}
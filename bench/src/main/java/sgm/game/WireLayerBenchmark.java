@@ -0,0 +1,65 @@
+package sgm.game;
+
+import greenfoot.Color;
+import greenfoot.GreenfootImage;
+import greenfoot.World;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * EngineerWireLayer redraws: moving the drag line (one frame of a drag, with
+ * four wires already connected under it) and connecting a wire.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WireLayerBenchmark
+{
+    private static final int CX = 400, CY = 300;
+    private static final int LEFT_X = 150, RIGHT_X = 650;
+
+    private EngineerWireLayer layer;
+    private int y;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        World world = BenchSupport.emptyWorld();
+        layer = new EngineerWireLayer(700, 500);
+        world.addObject(layer, CX, CY);
+
+        for (int i = 0; i < 4; i++)
+            layer.addPermanentLine(LEFT_X, 120 + i * 110, RIGHT_X, 450 - i * 110, Color.YELLOW);
+
+        y = 100;
+    }
+
+    @Benchmark
+    public GreenfootImage dragFrame()
+    {
+        y = (y >= 500) ? 100 : y + 3;
+        layer.setTempLine(LEFT_X, 120, RIGHT_X - 100, y, Color.RED);
+        return layer.getImage();
+    }
+
+    @Benchmark
+    public GreenfootImage connectWire()
+    {
+        y = (y >= 500) ? 100 : y + 3;
+        layer.addPermanentLine(LEFT_X, y, RIGHT_X, 600 - y, Color.GREEN);
+        return layer.getImage();
+    }
+}
@@ -0,0 +1,381 @@
+import greenfoot.*;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Plays SingleplayerPlaying and the four minigames with no window, as fast as
+ * the CPU allows, using scripted keyboard and mouse input.
+ *
+ * Game time advances a fixed 1/60 s per act cycle (GameClock.setFixedDelta),
+ * so timers, cooldowns and movement behave as in a 60 fps session.
+ *
+ * From the project root:
+ *   javac -encoding UTF-8 -d out headless/greenfoot/*.java *.java headless/HeadlessDriver.java
+ *   java -Djava.awt.headless=true -cp out:. HeadlessDriver [rounds] [--profile]
+ *   java -Djava.awt.headless=true -cp out:. HeadlessDriver --replay <file>
+ *   java -Djava.awt.headless=true -cp out:. HeadlessDriver --check-steps
+ *
+ * --profile turns the FrameProfiler on and prints its per-stage table at the end.
+ * --record <file> writes each round's input to file (the last round stays).
+ * The scripted rounds also move the player and set game state directly, so
+ * their logs do not replay exactly; logs of real sessions (-Dsgm.recordInput)
+ * do, and --replay plays one on a new game as fast as the CPU allows.
+ * --check-steps walks the player over a raised Solid and exits with status 1
+ * unless it stepped up onto it and back down.
+ */
+public class HeadlessDriver
+{
+    private static final double FRAME_SECONDS = 1.0 / 60.0;
+
+    // Long enough for every reopen cooldown and exit delay to run out
+    private static final int SETTLE_FRAMES = 200;
+
+    private static boolean profile = false;
+    private static File recordFile = null;
+
+    public static void main(String[] args)
+    {
+        System.setProperty("java.awt.headless", "true");
+
+        int rounds = 1;
+        File replayFile = null;
+        boolean checkSteps = false;
+        for (int i = 0; i < args.length; i++)
+        {
+            String a = args[i];
+            if (a.equals("--profile")) profile = true;
+            else if (a.equals("--record")) recordFile = new File(args[++i]);
+            else if (a.equals("--replay")) replayFile = new File(args[++i]);
+            else if (a.equals("--check-steps")) checkSteps = true;
+            else rounds = Integer.parseInt(a);
+        }
+
+        GameClock.setFixedDelta(FRAME_SECONDS);
+        HeadlessRuntime.setRandomSeed(1);
+        GameRandom.setSeed(1);
+
+        if (replayFile != null)
+        {
+            replay(replayFile);
+            return;
+        }
+        if (checkSteps)
+        {
+            if (!checkSteps()) System.exit(1);
+            return;
+        }
+
+        long start = System.nanoTime();
+        long firstFrame = HeadlessRuntime.getFrameCount();
+
+        for (int i = 0; i < rounds; i++)
+            playRound();
+
+        long frames = HeadlessRuntime.getFrameCount() - firstFrame;
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        System.out.printf("%d round(s), %d act cycles in %.2f s (%.0f cycles/s)%n",
+                          rounds, frames, seconds, frames / seconds);
+        System.out.printf("money %d$, fish fished %d, released %d, pending %d%n",
+                          MoneyDisplay.getMoney(),
+                          FishermanFishData.getFishesFished(),
+                          FishermanFishData.getFishesReleased(),
+                          FishermanFishData.getPendingCaughtCount());
+
+        if (profile)
+            printProfile();
+    }
+
+    private static void printProfile()
+    {
+        System.out.printf("%-36s %7s %8s %8s %8s %9s%n", "stage", "frames", "p50 us", "p95 us", "p99 us", "B/frame");
+        for (FrameProfiler.StageStats s : FrameProfiler.getStats())
+        {
+            System.out.printf("%-36s %7d %8.1f %8.1f %8.1f %9d%n",
+                              s.name, s.frames, s.p50Micros, s.p95Micros, s.p99Micros, s.meanBytes);
+        }
+    }
+
+    /** Plays an input log on a new game until it ends. */
+    private static void replay(File file)
+    {
+        SingleplayerPlaying world = new SingleplayerPlaying();
+        FrameProfiler.setEnabled(profile);
+        try
+        {
+            GameInput.startReplay(file);
+        }
+        catch (IOException e)
+        {
+            System.out.println("cannot replay " + file + ": " + e.getMessage());
+            return;
+        }
+        HeadlessRuntime.setWorld(world);
+        HeadlessRuntime.resetInput();
+        HeadlessRuntime.start();
+
+        long start = System.nanoTime();
+        long frames = 0;
+        while (GameInput.isReplaying())
+        {
+            HeadlessRuntime.step();
+            frames++;
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        HeadlessRuntime.stop();
+
+        System.out.printf("replayed %d frames (%.1f s of game time) in %.2f s%n",
+                          frames, GameClock.getTimeMillis() / 1000.0, seconds);
+        printState(world);
+        if (profile)
+            printProfile();
+    }
+
+    private static void printState(SingleplayerPlaying world)
+    {
+        List<ControllablePlayer> players = world.getObjects(ControllablePlayer.class);
+        if (!players.isEmpty())
+            System.out.printf("player at %d,%d%n", players.get(0).getWorldX(), players.get(0).getWorldY());
+        System.out.printf("money %d$, fish fished %d, game time %d ms%n",
+                          MoneyDisplay.getMoney(), FishermanFishData.getFishesFished(), GameClock.getTimeMillis());
+    }
+
+    // Upper deck, between its two walls, where no SlopeArea snaps the player
+    private static final int STEP_CHECK_X = 880;
+    private static final int STEP_CHECK_Y = 565;
+    private static final int STEP_RISE = 6;
+
+    /**
+     * Walks right across a floor Solid with a box STEP_RISE pixels high on it,
+     * under an overhang whose higher top covers the same columns; true if the
+     * player stepped up onto the box and back down behind it.
+     */
+    private static boolean checkSteps()
+    {
+        SingleplayerPlaying world = new SingleplayerPlaying();
+        HeadlessRuntime.setWorld(world);
+        HeadlessRuntime.resetInput();
+        HeadlessRuntime.start();
+
+        frames(1);
+        clickButton("Skip Tutorial");
+        frames(1);
+
+        ControllablePlayer player = world.getObjects(ControllablePlayer.class).get(0);
+        int h = player.getImage().getHeight();
+        int floorTop = STEP_CHECK_Y + (h - h / 2);
+
+        world.addObject(new Solid(260, 40, 970, floorTop + 20), 0, 0);
+        world.addObject(new Solid(40, 40, 960, floorTop - STEP_RISE + 20), 0, 0);
+        world.addObject(new Solid(120, 20, 960, floorTop - h - 40), 0, 0);
+        player.setWorldLocation(STEP_CHECK_X, STEP_CHECK_Y);
+
+        int highest = STEP_CHECK_Y;
+        HeadlessRuntime.keyDown("d");
+        for (int i = 0; i < 60 && player.getWorldX() < 1060; i++)
+        {
+            frames(1);
+            highest = Math.min(highest, player.getWorldY());
+        }
+        HeadlessRuntime.keyUp("d");
+        frames(1);
+        HeadlessRuntime.stop();
+
+        boolean ok = highest == STEP_CHECK_Y - STEP_RISE
+                     && player.getWorldX() >= 1060
+                     && player.getWorldY() == STEP_CHECK_Y;
+        System.out.printf("step check %s: highest y %d (expected %d), ended at %d,%d%n",
+                          ok ? "ok" : "FAILED", highest, STEP_CHECK_Y - STEP_RISE,
+                          player.getWorldX(), player.getWorldY());
+        return ok;
+    }
+
+    /** A new game: skip the tutorial, walk around, then play each minigame once. */
+    private static void playRound()
+    {
+        SingleplayerPlaying world = new SingleplayerPlaying();
+        FrameProfiler.setEnabled(profile);
+        if (recordFile != null)
+            startRecording();
+        HeadlessRuntime.setWorld(world);
+        HeadlessRuntime.resetInput();
+        HeadlessRuntime.start();
+
+        frames(1);
+        clickButton("Skip Tutorial");
+        frames(1);
+
+        hold(120, "a");
+        hold(240, "d");
+
+        playCaptain(world);
+        playEngineer(world);
+        playFisherman(world);
+        playBiologist(world);
+
+        HeadlessRuntime.stop();
+        GameInput.stopRecording();
+    }
+
+    private static void startRecording()
+    {
+        try
+        {
+            GameInput.startRecording(recordFile, 1);
+        }
+        catch (IOException e)
+        {
+            System.out.println("cannot record to " + recordFile + ": " + e.getMessage());
+        }
+    }
+
+    // ======================= MINIGAMES =======================
+
+    private static void playCaptain(SingleplayerPlaying world)
+    {
+        if (!openTrigger(world, 843, 564)) return;
+
+        hold(90, "d", "w");
+        hold(90, "d", "s");
+        hold(60, "right");
+        close();
+    }
+
+    private static void playEngineer(SingleplayerPlaying world)
+    {
+        EngineRepairState.setNeedsRepair(true);
+        if (!openTrigger(world, 1440, 950)) return;
+
+        // Connect every left peg to the right peg of the same colour
+        for (EngineerWirePeg left : world.getObjects(EngineerWirePeg.class))
+        {
+            if (left.getSide() != EngineerWirePeg.Side.LEFT || left.getWorld() == null) continue;
+
+            for (EngineerWirePeg right : world.getObjects(EngineerWirePeg.class))
+            {
+                if (right.getSide() == EngineerWirePeg.Side.RIGHT
+                    && right.getWireColor() == left.getWireColor())
+                {
+                    drag(left.getX(), left.getY(), right.getX(), right.getY());
+                    break;
+                }
+            }
+        }
+        close();
+    }
+
+    private static void playFisherman(SingleplayerPlaying world)
+    {
+        if (!openTrigger(world, 364, 740)) return;
+
+        // Press E whenever the needle is over the target, release otherwise
+        for (int i = 0; i < 3000 && MinigameLock.isLocked(); i++)
+        {
+            List<FishermanSkillCheckWheel> wheels = world.getObjects(FishermanSkillCheckWheel.class);
+            if (!wheels.isEmpty() && wheels.get(0).isNeedleInWindow())
+                HeadlessRuntime.keyDown("e");
+            else
+                HeadlessRuntime.keyUp("e");
+            frames(1);
+        }
+        HeadlessRuntime.keyUp("e");
+        close();
+    }
+
+    private static void playBiologist(SingleplayerPlaying world)
+    {
+        if (!openTrigger(world, world.getMapWidth() / 2 + 25, 766)) return;
+
+        int zone = 0;
+        for (int i = 0; i < 40 && MinigameLock.isLocked(); i++)
+        {
+            if (clickButton("Keep")) continue;
+
+            List<BiologistDraggableFish> fish = world.getObjects(BiologistDraggableFish.class);
+            List<BiologistDropZone> zones = world.getObjects(BiologistDropZone.class);
+            if (fish.isEmpty() || zones.isEmpty())
+            {
+                frames(30);
+                continue;
+            }
+
+            BiologistDraggableFish f = fish.get(0);
+            BiologistDropZone z = zones.get(zone++ % zones.size());
+            drag(f.getX(), f.getY(), z.getX(), z.getY());
+        }
+        close();
+    }
+
+    // ======================= INPUT HELPERS =======================
+
+    /** Puts the player on a trigger and presses E; true if a minigame or panel opened. */
+    private static boolean openTrigger(SingleplayerPlaying world, int worldX, int worldY)
+    {
+        List<ControllablePlayer> players = world.getObjects(ControllablePlayer.class);
+        if (players.isEmpty()) return false;
+
+        players.get(0).setWorldLocation(worldX, worldY);
+        frames(2);
+        hold(1, "e");
+        frames(2);
+
+        boolean opened = MinigameLock.isLocked();
+        if (!opened)
+            System.out.println("trigger at " + worldX + "," + worldY + " did not open");
+        return opened;
+    }
+
+    /** Escape out of whatever is still open, then wait for cooldowns. */
+    private static void close()
+    {
+        if (MinigameLock.isLocked())
+            hold(1, "escape");
+        frames(SETTLE_FRAMES);
+        if (MinigameLock.isLocked())
+            MinigameLock.forceCloseActiveMinigame();
+    }
+
+    private static void hold(int count, String... keys)
+    {
+        for (String k : keys) HeadlessRuntime.keyDown(k);
+        frames(count);
+        for (String k : keys) HeadlessRuntime.keyUp(k);
+        frames(1);
+    }
+
+    private static void drag(int fromX, int fromY, int toX, int toY)
+    {
+        HeadlessRuntime.mousePress(fromX, fromY);
+        frames(1);
+        HeadlessRuntime.mouseMove((fromX + toX) / 2, (fromY + toY) / 2);
+        frames(1);
+        HeadlessRuntime.mouseMove(toX, toY);
+        frames(1);
+        HeadlessRuntime.mouseRelease(toX, toY);
+        frames(2);
+    }
+
+    /** Clicks the first button with this label; false if there is none. */
+    private static boolean clickButton(String label)
+    {
+        World w = HeadlessRuntime.getWorld();
+        for (Button b : w.getObjects(Button.class))
+        {
+            if (label.equals(b.getLabel()))
+            {
+                HeadlessRuntime.mouseMove(b.getX(), b.getY());
+                HeadlessRuntime.mouseClick(b.getX(), b.getY());
+                frames(2);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void frames(int count)
+    {
+        for (int i = 0; i < count; i++)
+            HeadlessRuntime.step();
+    }
+}
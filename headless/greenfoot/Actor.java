@@ -0,0 +1,222 @@
+package greenfoot;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Headless stand-in for greenfoot.Actor.
+ *
+ * Collision queries use each actor's image bounds centred on its location;
+ * for rotated actors that is the axis-aligned box around the rotated image.
+ */
+public abstract class Actor
+{
+    World world;
+    private int x;
+    private int y;
+    private int rotation = 0;
+    private GreenfootImage image;
+
+    public Actor() { }
+
+    public void act() { }
+
+    protected void addedToWorld(World world) { }
+
+    // ======================= LOCATION =======================
+
+    public int getX()
+    {
+        checkInWorld();
+        return x;
+    }
+
+    public int getY()
+    {
+        checkInWorld();
+        return y;
+    }
+
+    public void setLocation(int x, int y)
+    {
+        checkInWorld();
+        this.x = world.clampX(x);
+        this.y = world.clampY(y);
+    }
+
+    /** Position set by World.addObject before addedToWorld() runs. */
+    void place(int x, int y)
+    {
+        this.x = world.clampX(x);
+        this.y = world.clampY(y);
+    }
+
+    public int getRotation()
+    {
+        return rotation;
+    }
+
+    public void setRotation(int degrees)
+    {
+        rotation = ((degrees % 360) + 360) % 360;
+    }
+
+    public void turn(int degrees)
+    {
+        setRotation(rotation + degrees);
+    }
+
+    public void turnTowards(int tx, int ty)
+    {
+        setRotation((int)Math.round(Math.toDegrees(Math.atan2(ty - getY(), tx - getX()))));
+    }
+
+    public void move(int distance)
+    {
+        double rad = Math.toRadians(rotation);
+        setLocation((int)Math.round(getX() + Math.cos(rad) * distance),
+                    (int)Math.round(getY() + Math.sin(rad) * distance));
+    }
+
+    public boolean isAtEdge()
+    {
+        checkInWorld();
+        return x <= 0 || y <= 0 || x >= world.getWidth() - 1 || y >= world.getHeight() - 1;
+    }
+
+    public World getWorld()
+    {
+        return world;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <W> W getWorldOfType(Class<W> cls)
+    {
+        return cls.isInstance(world) ? (W)world : null;
+    }
+
+    private void checkInWorld()
+    {
+        if (world == null)
+            throw new IllegalStateException("Actor not in world. An attempt was made to use the actor's location while it is not in the world.");
+    }
+
+    // ======================= IMAGE =======================
+
+    public GreenfootImage getImage()
+    {
+        return image;
+    }
+
+    public void setImage(GreenfootImage image)
+    {
+        this.image = image;
+    }
+
+    public void setImage(String filename)
+    {
+        this.image = new GreenfootImage(filename);
+    }
+
+    // ======================= BOUNDS =======================
+
+    /** Half extents of the (rotated) image, {halfW, halfH}. */
+    private double[] halfExtents()
+    {
+        if (image == null) return new double[] { 0, 0 };
+
+        double w = image.getWidth();
+        double h = image.getHeight();
+        if (rotation == 0 || rotation == 180)
+            return new double[] { w / 2.0, h / 2.0 };
+        if (rotation == 90 || rotation == 270)
+            return new double[] { h / 2.0, w / 2.0 };
+
+        double rad = Math.toRadians(rotation);
+        double c = Math.abs(Math.cos(rad));
+        double s = Math.abs(Math.sin(rad));
+        return new double[] { (w * c + h * s) / 2.0, (w * s + h * c) / 2.0 };
+    }
+
+    /** True if (px, py) lies inside this actor's bounds. */
+    boolean containsPoint(int px, int py)
+    {
+        if (image == null) return false;
+        double[] he = halfExtents();
+        return px >= x - he[0] && px < x + he[0]
+            && py >= y - he[1] && py < y + he[1];
+    }
+
+    protected boolean intersects(Actor other)
+    {
+        if (other == this || image == null || other.image == null) return false;
+        double[] a = halfExtents();
+        double[] b = other.halfExtents();
+        return Math.abs(x - other.x) < a[0] + b[0]
+            && Math.abs(y - other.y) < a[1] + b[1];
+    }
+
+    // ======================= QUERIES =======================
+
+    protected Actor getOneIntersectingObject(Class<?> cls)
+    {
+        if (world == null) return null;
+        for (Actor a : world.actorsSnapshot())
+        {
+            if (a != this && a.world == world && (cls == null || cls.isInstance(a)) && intersects(a))
+                return a;
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected <A> List<A> getIntersectingObjects(Class<A> cls)
+    {
+        List<A> result = new ArrayList<>();
+        if (world == null) return result;
+        for (Actor a : world.actorsSnapshot())
+        {
+            if (a != this && (cls == null || cls.isInstance(a)) && intersects(a))
+                result.add((A)a);
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected <A> List<A> getObjectsInRange(int radius, Class<A> cls)
+    {
+        List<A> result = new ArrayList<>();
+        if (world == null) return result;
+        long r2 = (long)radius * radius;
+        for (Actor a : world.actorsSnapshot())
+        {
+            long dx = a.x - x;
+            long dy = a.y - y;
+            if (a != this && (cls == null || cls.isInstance(a)) && dx * dx + dy * dy <= r2)
+                result.add((A)a);
+        }
+        return result;
+    }
+
+    protected Actor getOneObjectAtOffset(int dx, int dy, Class<?> cls)
+    {
+        if (world == null) return null;
+        for (Actor a : world.actorsSnapshot())
+        {
+            if (a != this && (cls == null || cls.isInstance(a)) && a.containsPoint(x + dx, y + dy))
+                return a;
+        }
+        return null;
+    }
+
+    protected boolean isTouching(Class<?> cls)
+    {
+        return getOneIntersectingObject(cls) != null;
+    }
+
+    protected void removeTouching(Class<?> cls)
+    {
+        Actor a = getOneIntersectingObject(cls);
+        if (a != null) world.removeObject(a);
+    }
+}
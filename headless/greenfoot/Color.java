@@ -0,0 +1,77 @@
+package greenfoot;
+
+/**
+ * Headless stand-in for greenfoot.Color: an RGBA value with the usual constants.
+ */
+public class Color
+{
+    public static final Color WHITE      = new Color(255, 255, 255);
+    public static final Color LIGHT_GRAY = new Color(192, 192, 192);
+    public static final Color GRAY       = new Color(128, 128, 128);
+    public static final Color DARK_GRAY  = new Color(64, 64, 64);
+    public static final Color BLACK      = new Color(0, 0, 0);
+    public static final Color RED        = new Color(255, 0, 0);
+    public static final Color PINK       = new Color(255, 175, 175);
+    public static final Color ORANGE     = new Color(255, 200, 0);
+    public static final Color YELLOW     = new Color(255, 255, 0);
+    public static final Color GREEN      = new Color(0, 255, 0);
+    public static final Color MAGENTA    = new Color(255, 0, 255);
+    public static final Color CYAN       = new Color(0, 255, 255);
+    public static final Color BLUE       = new Color(0, 0, 255);
+
+    private final java.awt.Color awt;
+
+    public Color(int r, int g, int b)
+    {
+        this(r, g, b, 255);
+    }
+
+    public Color(int r, int g, int b, int a)
+    {
+        awt = new java.awt.Color(r, g, b, a);
+    }
+
+    Color(java.awt.Color awt)
+    {
+        this.awt = awt;
+    }
+
+    public int getRed()   { return awt.getRed(); }
+    public int getGreen() { return awt.getGreen(); }
+    public int getBlue()  { return awt.getBlue(); }
+    public int getAlpha() { return awt.getAlpha(); }
+
+    public Color brighter()
+    {
+        return new Color(awt.brighter());
+    }
+
+    public Color darker()
+    {
+        return new Color(awt.darker());
+    }
+
+    /** The AWT colour used when drawing. */
+    java.awt.Color toAwt()
+    {
+        return awt;
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        return o instanceof Color && ((Color)o).awt.getRGB() == awt.getRGB();
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return awt.getRGB();
+    }
+
+    @Override
+    public String toString()
+    {
+        return "Color{" + getRed() + "," + getGreen() + "," + getBlue() + "," + getAlpha() + "}";
+    }
+}
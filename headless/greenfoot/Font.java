@@ -0,0 +1,48 @@
+package greenfoot;
+
+/**
+ * Headless stand-in for greenfoot.Font (wraps an AWT font).
+ */
+public class Font
+{
+    private final java.awt.Font awt;
+
+    public Font(String name, boolean bold, boolean italic, int size)
+    {
+        int style = java.awt.Font.PLAIN;
+        if (bold) style |= java.awt.Font.BOLD;
+        if (italic) style |= java.awt.Font.ITALIC;
+        awt = new java.awt.Font(name, style, size);
+    }
+
+    public Font(boolean bold, boolean italic, int size)
+    {
+        this("SansSerif", bold, italic, size);
+    }
+
+    public Font(String name, int size)
+    {
+        this(name, false, false, size);
+    }
+
+    public Font(int size)
+    {
+        this(false, false, size);
+    }
+
+    public String getName()    { return awt.getName(); }
+    public int getSize()       { return awt.getSize(); }
+    public boolean isBold()    { return awt.isBold(); }
+    public boolean isItalic()  { return awt.isItalic(); }
+    public boolean isPlain()   { return awt.isPlain(); }
+
+    public Font deriveFont(float size)
+    {
+        return new Font(getName(), isBold(), isItalic(), Math.round(size));
+    }
+
+    java.awt.Font toAwt()
+    {
+        return awt;
+    }
+}
@@ -0,0 +1,124 @@
+package greenfoot;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Headless stand-in for greenfoot.Greenfoot.
+ *
+ * Keyboard and mouse state come from HeadlessRuntime's injection methods
+ * instead of a window; mouse events last for one act cycle, as in Greenfoot.
+ */
+public class Greenfoot
+{
+    static World world;
+    static boolean running = false;
+    static int speed = 50;
+    static Random random = new Random();
+
+    // ----- keyboard -----
+    static final Set<String> keysDown = new HashSet<>();
+    static String lastKey = null;
+
+    // ----- mouse -----
+    static boolean mouseInside = false;
+    static int mouseX, mouseY;
+    static int mouseButton = 0;
+    static int clickCount = 0;
+    static boolean buttonDown = false;
+    static boolean dragging = false;
+    static Actor pressTarget = null;   // actor under the mouse at the last press (null = background)
+
+    // Events of the current act cycle and the actor each happened on
+    static boolean pressed, clicked, dragged, dragEnded, moved;
+    static Actor pressedOn, clickedOn, draggedOn, dragEndedOn, movedOn;
+
+    private Greenfoot() { }
+
+    // ======================= WORLD / EXECUTION =======================
+
+    public static void setWorld(World w)
+    {
+        world = w;
+    }
+
+    public static World getWorld()
+    {
+        return world;
+    }
+
+    public static void start()
+    {
+        if (running) return;
+        running = true;
+        if (world != null) world.started();
+    }
+
+    public static void stop()
+    {
+        if (!running) return;
+        running = false;
+        if (world != null) world.stopped();
+    }
+
+    /** No real time passes headless; delays are skipped. */
+    public static void delay(int time) { }
+
+    public static void setSpeed(int s)
+    {
+        speed = Math.max(1, Math.min(100, s));
+    }
+
+    public static int getRandomNumber(int limit)
+    {
+        return random.nextInt(limit);
+    }
+
+    public static void playSound(String soundFile) { }
+
+    // ======================= KEYBOARD =======================
+
+    public static boolean isKeyDown(String keyName)
+    {
+        return keyName != null && keysDown.contains(keyName.toLowerCase(Locale.ROOT));
+    }
+
+    /** The last key pressed since the previous call, or null. */
+    public static String getKey()
+    {
+        String k = lastKey;
+        lastKey = null;
+        return k;
+    }
+
+    // ======================= MOUSE =======================
+
+    public static MouseInfo getMouseInfo()
+    {
+        if (!mouseInside || world == null) return null;
+        return new MouseInfo(mouseX, mouseY, mouseButton, clickCount, world.topActorAt(mouseX, mouseY));
+    }
+
+    public static boolean mousePressed(Object obj)   { return pressed   && matches(obj, pressedOn); }
+    public static boolean mouseClicked(Object obj)   { return clicked   && matches(obj, clickedOn); }
+    public static boolean mouseDragged(Object obj)   { return dragged   && matches(obj, draggedOn); }
+    public static boolean mouseDragEnded(Object obj) { return dragEnded && matches(obj, dragEndedOn); }
+    public static boolean mouseMoved(Object obj)     { return moved     && matches(obj, movedOn); }
+
+    /** null matches anything, a World matches the background, an Actor matches itself. */
+    private static boolean matches(Object obj, Actor target)
+    {
+        if (obj == null) return true;
+        if (obj instanceof World) return target == null;
+        return obj == target;
+    }
+
+    /** Forgets this act cycle's mouse events. */
+    static void clearFrameEvents()
+    {
+        pressed = clicked = dragged = dragEnded = moved = false;
+        pressedOn = clickedOn = draggedOn = dragEndedOn = movedOn = null;
+    }
+}
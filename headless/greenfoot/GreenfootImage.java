@@ -0,0 +1,361 @@
+package greenfoot;
+
+import java.awt.AlphaComposite;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import javax.imageio.ImageIO;
+
+/**
+ * Headless stand-in for greenfoot.GreenfootImage, backed by an ARGB BufferedImage.
+ *
+ * Files are looked up as images/&lt;name&gt; in the working directory, then on the
+ * classpath, then as a plain path. Transparency is kept separately and applied
+ * when the image is drawn onto another one, as in Greenfoot.
+ */
+public class GreenfootImage
+{
+    private static final Font DEFAULT_FONT = new Font("SansSerif", false, false, 12);
+
+    private BufferedImage image;
+    private Color color = Color.BLACK;
+    private Font font = DEFAULT_FONT;
+    private int transparency = 255;
+
+    public GreenfootImage(String filename)
+    {
+        image = toArgb(load(filename));
+    }
+
+    public GreenfootImage(int width, int height)
+    {
+        image = new BufferedImage(Math.max(1, width), Math.max(1, height), BufferedImage.TYPE_INT_ARGB);
+    }
+
+    public GreenfootImage(GreenfootImage other)
+    {
+        image = copy(other.image);
+        color = other.color;
+        font = other.font;
+        transparency = other.transparency;
+    }
+
+    /** Text image: one line per '\n', sized to fit. */
+    public GreenfootImage(String text, int size, Color foreground, Color background)
+    {
+        this(text, size, foreground, background, null);
+    }
+
+    public GreenfootImage(String text, int size, Color foreground, Color background, Color outline)
+    {
+        java.awt.Font awtFont = new java.awt.Font("SansSerif", java.awt.Font.PLAIN, size);
+        String[] lines = text.split("\n", -1);
+
+        BufferedImage probe = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D pg = probe.createGraphics();
+        FontMetrics fm = pg.getFontMetrics(awtFont);
+        pg.dispose();
+
+        int pad = (outline != null) ? 2 : 0;
+        int w = 1;
+        for (String line : lines)
+            w = Math.max(w, fm.stringWidth(line));
+        int h = Math.max(1, fm.getHeight() * lines.length);
+
+        image = new BufferedImage(w + pad * 2, h + pad * 2, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = graphics();
+        try
+        {
+            if (background != null)
+            {
+                g.setComposite(AlphaComposite.Src);
+                g.setColor(background.toAwt());
+                g.fillRect(0, 0, image.getWidth(), image.getHeight());
+                g.setComposite(AlphaComposite.SrcOver);
+            }
+
+            g.setFont(awtFont);
+            for (int i = 0; i < lines.length; i++)
+            {
+                int y = pad + fm.getAscent() + i * fm.getHeight();
+                if (outline != null)
+                {
+                    g.setColor(outline.toAwt());
+                    for (int ox = -1; ox <= 1; ox++)
+                        for (int oy = -1; oy <= 1; oy++)
+                            if (ox != 0 || oy != 0)
+                                g.drawString(lines[i], pad + ox, y + oy);
+                }
+                if (foreground != null)
+                {
+                    g.setColor(foreground.toAwt());
+                    g.drawString(lines[i], pad, y);
+                }
+            }
+        }
+        finally
+        {
+            g.dispose();
+        }
+    }
+
+    // ======================= LOADING =======================
+
+    private static BufferedImage load(String filename)
+    {
+        try
+        {
+            File local = new File("images", filename);
+            if (local.isFile())
+                return read(ImageIO.read(local), filename);
+
+            URL url = GreenfootImage.class.getClassLoader().getResource("images/" + filename);
+            if (url != null)
+            {
+                try (InputStream in = url.openStream())
+                {
+                    return read(ImageIO.read(in), filename);
+                }
+            }
+
+            File plain = new File(filename);
+            if (plain.isFile())
+                return read(ImageIO.read(plain), filename);
+        }
+        catch (IOException e)
+        {
+            throw new IllegalArgumentException("Could not load image from: " + filename, e);
+        }
+        throw new IllegalArgumentException("Could not find image: " + filename);
+    }
+
+    private static BufferedImage read(BufferedImage img, String filename)
+    {
+        if (img == null)
+            throw new IllegalArgumentException("Unsupported image format: " + filename);
+        return img;
+    }
+
+    private static BufferedImage toArgb(BufferedImage src)
+    {
+        if (src.getType() == BufferedImage.TYPE_INT_ARGB)
+            return src;
+        return copy(src);
+    }
+
+    private static BufferedImage copy(BufferedImage src)
+    {
+        BufferedImage dst = new BufferedImage(src.getWidth(), src.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = dst.createGraphics();
+        g.setComposite(AlphaComposite.Src);
+        g.drawImage(src, 0, 0, null);
+        g.dispose();
+        return dst;
+    }
+
+    private Graphics2D graphics()
+    {
+        Graphics2D g = image.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        return g;
+    }
+
+    // ======================= PROPERTIES =======================
+
+    public BufferedImage getAwtImage() { return image; }
+    public int getWidth()              { return image.getWidth(); }
+    public int getHeight()             { return image.getHeight(); }
+
+    public void setColor(Color c)  { color = c; }
+    public Color getColor()        { return color; }
+    public void setFont(Font f)    { font = f; }
+    public Font getFont()          { return font; }
+
+    public void setTransparency(int t)
+    {
+        transparency = Math.max(0, Math.min(255, t));
+    }
+
+    public int getTransparency()
+    {
+        return transparency;
+    }
+
+    public Color getColorAt(int x, int y)
+    {
+        return new Color(new java.awt.Color(image.getRGB(x, y), true));
+    }
+
+    public void setColorAt(int x, int y, Color c)
+    {
+        image.setRGB(x, y, c.toAwt().getRGB());
+    }
+
+    // ======================= TRANSFORMS =======================
+
+    public void scale(int width, int height)
+    {
+        if (width == getWidth() && height == getHeight()) return;
+
+        BufferedImage dst = new BufferedImage(Math.max(1, width), Math.max(1, height), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = dst.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.setComposite(AlphaComposite.Src);
+        g.drawImage(image, 0, 0, dst.getWidth(), dst.getHeight(), null);
+        g.dispose();
+        image = dst;
+    }
+
+    /** Rotates the contents around the centre; the size stays the same, as in Greenfoot. */
+    public void rotate(int degrees)
+    {
+        BufferedImage dst = new BufferedImage(getWidth(), getHeight(), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = dst.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.transform(AffineTransform.getRotateInstance(Math.toRadians(degrees), getWidth() / 2.0, getHeight() / 2.0));
+        g.drawImage(image, 0, 0, null);
+        g.dispose();
+        image = dst;
+    }
+
+    public void mirrorHorizontally()
+    {
+        BufferedImage dst = new BufferedImage(getWidth(), getHeight(), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = dst.createGraphics();
+        g.setComposite(AlphaComposite.Src);
+        g.drawImage(image, getWidth(), 0, -getWidth(), getHeight(), null);
+        g.dispose();
+        image = dst;
+    }
+
+    public void mirrorVertically()
+    {
+        BufferedImage dst = new BufferedImage(getWidth(), getHeight(), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = dst.createGraphics();
+        g.setComposite(AlphaComposite.Src);
+        g.drawImage(image, 0, getHeight(), getWidth(), -getHeight(), null);
+        g.dispose();
+        image = dst;
+    }
+
+    // ======================= DRAWING =======================
+
+    public void drawImage(GreenfootImage other, int x, int y)
+    {
+        Graphics2D g = graphics();
+        if (other.transparency < 255)
+            g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, other.transparency / 255f));
+        g.drawImage(other.image, x, y, null);
+        g.dispose();
+    }
+
+    public void fill()
+    {
+        fillRect(0, 0, getWidth(), getHeight());
+    }
+
+    /** Makes every pixel fully transparent. */
+    public void clear()
+    {
+        Graphics2D g = graphics();
+        g.setComposite(AlphaComposite.Clear);
+        g.fillRect(0, 0, getWidth(), getHeight());
+        g.dispose();
+    }
+
+    public void fillRect(int x, int y, int w, int h)
+    {
+        Graphics2D g = paint();
+        g.fillRect(x, y, w, h);
+        g.dispose();
+    }
+
+    public void drawRect(int x, int y, int w, int h)
+    {
+        Graphics2D g = paint();
+        g.drawRect(x, y, w, h);
+        g.dispose();
+    }
+
+    public void fillOval(int x, int y, int w, int h)
+    {
+        Graphics2D g = paint();
+        g.fillOval(x, y, w, h);
+        g.dispose();
+    }
+
+    public void drawOval(int x, int y, int w, int h)
+    {
+        Graphics2D g = paint();
+        g.drawOval(x, y, w, h);
+        g.dispose();
+    }
+
+    public void drawLine(int x1, int y1, int x2, int y2)
+    {
+        Graphics2D g = paint();
+        g.drawLine(x1, y1, x2, y2);
+        g.dispose();
+    }
+
+    public void fillPolygon(int[] xs, int[] ys, int n)
+    {
+        Graphics2D g = paint();
+        g.fillPolygon(xs, ys, n);
+        g.dispose();
+    }
+
+    public void drawPolygon(int[] xs, int[] ys, int n)
+    {
+        Graphics2D g = paint();
+        g.drawPolygon(xs, ys, n);
+        g.dispose();
+    }
+
+    public void fillShape(Shape s)
+    {
+        Graphics2D g = paint();
+        g.fill(s);
+        g.dispose();
+    }
+
+    public void drawShape(Shape s)
+    {
+        Graphics2D g = paint();
+        g.draw(s);
+        g.dispose();
+    }
+
+    /** y is the baseline of the first line; '\n' starts a new line. */
+    public void drawString(String text, int x, int y)
+    {
+        Graphics2D g = paint();
+        g.setFont(font.toAwt());
+        int lineHeight = g.getFontMetrics().getHeight();
+        String[] lines = text.split("\n", -1);
+        for (int i = 0; i < lines.length; i++)
+            g.drawString(lines[i], x, y + i * lineHeight);
+        g.dispose();
+    }
+
+    /** Graphics set up with the current colour (painted over, as in Greenfoot). */
+    private Graphics2D paint()
+    {
+        Graphics2D g = graphics();
+        g.setColor(color.toAwt());
+        return g;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "GreenfootImage{" + getWidth() + "x" + getHeight() + "}";
+    }
+}
@@ -0,0 +1,63 @@
+package greenfoot;
+
+/**
+ * Headless stand-in for greenfoot.GreenfootSound: silent, but keeps its
+ * playing state and volume so code that checks them behaves as usual.
+ */
+public class GreenfootSound
+{
+    private final String filename;
+    private boolean playing = false;
+    private boolean looping = false;
+    private int volume = 100;
+
+    public GreenfootSound(String filename)
+    {
+        this.filename = filename;
+    }
+
+    public void play()
+    {
+        playing = true;
+        looping = false;
+    }
+
+    public void playLoop()
+    {
+        playing = true;
+        looping = true;
+    }
+
+    public void stop()
+    {
+        playing = false;
+        looping = false;
+    }
+
+    public void pause()
+    {
+        playing = false;
+    }
+
+    /** A one-shot sound counts as finished straight away; a loop plays until stopped. */
+    public boolean isPlaying()
+    {
+        return playing && looping;
+    }
+
+    public void setVolume(int level)
+    {
+        volume = Math.max(0, Math.min(100, level));
+    }
+
+    public int getVolume()
+    {
+        return volume;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "GreenfootSound{" + filename + "}";
+    }
+}
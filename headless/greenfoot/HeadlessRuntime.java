@@ -0,0 +1,201 @@
+package greenfoot;
+
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Runs a Greenfoot scenario with no window and no frame pacing.
+ *
+ * step() is one Greenfoot act cycle (world first, then every actor in act
+ * order) and returns straight away, so scenarios run as fast as the CPU
+ * allows. Keyboard and mouse input is injected from code; mouse events
+ * belong to the next act cycle and are cleared after it, held keys stay
+ * down until released.
+ */
+public class HeadlessRuntime
+{
+    private static long frameCount = 0;
+
+    private HeadlessRuntime() { }
+
+    // ======================= EXECUTION =======================
+
+    public static void setWorld(World world)
+    {
+        Greenfoot.setWorld(world);
+    }
+
+    public static World getWorld()
+    {
+        return Greenfoot.world;
+    }
+
+    /** Like pressing Run: calls started() on the current world. */
+    public static void start()
+    {
+        Greenfoot.start();
+    }
+
+    public static void stop()
+    {
+        Greenfoot.stop();
+    }
+
+    public static boolean isRunning()
+    {
+        return Greenfoot.running;
+    }
+
+    public static long getFrameCount()
+    {
+        return frameCount;
+    }
+
+    /** One act cycle of the current world. */
+    public static void step()
+    {
+        World world = Greenfoot.world;
+        if (world != null)
+        {
+            world.act();
+
+            for (Actor a : world.actorsInActOrder())
+            {
+                // Skip actors removed by an earlier act() this cycle
+                if (a.world == world)
+                    a.act();
+            }
+        }
+
+        Greenfoot.clearFrameEvents();
+        frameCount++;
+    }
+
+    /** Runs up to frames act cycles, stopping early if Greenfoot.stop() is called. Returns the cycles run. */
+    public static int run(int frames)
+    {
+        int n = 0;
+        while (n < frames && Greenfoot.running)
+        {
+            step();
+            n++;
+        }
+        return n;
+    }
+
+    /** Seeds Greenfoot.getRandomNumber(). */
+    public static void setRandomSeed(long seed)
+    {
+        Greenfoot.random = new Random(seed);
+    }
+
+    /** Releases every key and the mouse, and forgets pending events. */
+    public static void resetInput()
+    {
+        Greenfoot.keysDown.clear();
+        Greenfoot.lastKey = null;
+        Greenfoot.mouseInside = false;
+        Greenfoot.buttonDown = false;
+        Greenfoot.dragging = false;
+        Greenfoot.pressTarget = null;
+        Greenfoot.clearFrameEvents();
+    }
+
+    // ======================= KEYBOARD =======================
+
+    public static void keyDown(String key)
+    {
+        String k = key.toLowerCase(Locale.ROOT);
+        if (Greenfoot.keysDown.add(k))
+            Greenfoot.lastKey = k;
+    }
+
+    public static void keyUp(String key)
+    {
+        Greenfoot.keysDown.remove(key.toLowerCase(Locale.ROOT));
+    }
+
+    public static boolean isKeyDown(String key)
+    {
+        return Greenfoot.isKeyDown(key);
+    }
+
+    // ======================= MOUSE =======================
+
+    public static void mouseMove(int x, int y)
+    {
+        setMousePosition(x, y);
+
+        if (Greenfoot.buttonDown)
+        {
+            Greenfoot.dragging = true;
+            Greenfoot.dragged = true;
+            Greenfoot.draggedOn = Greenfoot.pressTarget;
+        }
+        else
+        {
+            Greenfoot.moved = true;
+            Greenfoot.movedOn = actorAt(x, y);
+        }
+    }
+
+    public static void mousePress(int x, int y)
+    {
+        mousePress(x, y, 1);
+    }
+
+    public static void mousePress(int x, int y, int button)
+    {
+        setMousePosition(x, y);
+
+        Greenfoot.mouseButton = button;
+        Greenfoot.buttonDown = true;
+        Greenfoot.dragging = false;
+        Greenfoot.pressTarget = actorAt(x, y);
+
+        Greenfoot.pressed = true;
+        Greenfoot.pressedOn = Greenfoot.pressTarget;
+    }
+
+    /** Ends a drag if the mouse moved while held, otherwise clicks when released over the pressed actor. */
+    public static void mouseRelease(int x, int y)
+    {
+        setMousePosition(x, y);
+        if (!Greenfoot.buttonDown) return;
+
+        if (Greenfoot.dragging)
+        {
+            Greenfoot.dragEnded = true;
+            Greenfoot.dragEndedOn = Greenfoot.pressTarget;
+        }
+        else if (actorAt(x, y) == Greenfoot.pressTarget)
+        {
+            Greenfoot.clicked = true;
+            Greenfoot.clickedOn = Greenfoot.pressTarget;
+            Greenfoot.clickCount = 1;
+        }
+
+        Greenfoot.buttonDown = false;
+        Greenfoot.dragging = false;
+    }
+
+    /** Press and release at one spot, within the same act cycle. */
+    public static void mouseClick(int x, int y)
+    {
+        mousePress(x, y);
+        mouseRelease(x, y);
+    }
+
+    private static void setMousePosition(int x, int y)
+    {
+        World w = Greenfoot.world;
+        Greenfoot.mouseX = x;
+        Greenfoot.mouseY = y;
+        Greenfoot.mouseInside = w != null && x >= 0 && y >= 0 && x < w.getWidth() && y < w.getHeight();
+    }
+
+    private static Actor actorAt(int x, int y)
+    {
+        return (Greenfoot.world != null) ? Greenfoot.world.topActorAt(x, y) : null;
+    }
+}
@@ -0,0 +1,34 @@
+package greenfoot;
+
+/**
+ * Headless stand-in for greenfoot.MouseInfo: a snapshot of the injected mouse.
+ */
+public class MouseInfo
+{
+    private final int x;
+    private final int y;
+    private final int button;
+    private final int clickCount;
+    private final Actor actor;
+
+    MouseInfo(int x, int y, int button, int clickCount, Actor actor)
+    {
+        this.x = x;
+        this.y = y;
+        this.button = button;
+        this.clickCount = clickCount;
+        this.actor = actor;
+    }
+
+    public int getX()          { return x; }
+    public int getY()          { return y; }
+    public int getButton()     { return button; }
+    public int getClickCount() { return clickCount; }
+    public Actor getActor()    { return actor; }
+
+    @Override
+    public String toString()
+    {
+        return "MouseInfo{" + x + "," + y + " button=" + button + "}";
+    }
+}
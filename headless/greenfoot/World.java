@@ -0,0 +1,220 @@
+package greenfoot;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Headless stand-in for greenfoot.World: the actor list, act order and paint
+ * order, with no window. Actors are kept in insertion order.
+ */
+public abstract class World
+{
+    private final int width;
+    private final int height;
+    private final int cellSize;
+    private final boolean bounded;
+
+    private final ArrayList<Actor> actors = new ArrayList<>();
+    private Actor[] snapshot = null;   // cached copy of actors, dropped on add/remove
+
+    private GreenfootImage background;
+
+    private Class<?>[] paintOrder = new Class<?>[0];
+    private Class<?>[] actOrder = new Class<?>[0];
+
+    private final Map<Long, String> texts = new HashMap<>();
+
+    public World(int worldWidth, int worldHeight, int cellSize)
+    {
+        this(worldWidth, worldHeight, cellSize, true);
+    }
+
+    public World(int worldWidth, int worldHeight, int cellSize, boolean bounded)
+    {
+        this.width = worldWidth;
+        this.height = worldHeight;
+        this.cellSize = cellSize;
+        this.bounded = bounded;
+        this.background = new GreenfootImage(worldWidth * cellSize, worldHeight * cellSize);
+    }
+
+    public void act() { }
+    public void started() { }
+    public void stopped() { }
+
+    public int getWidth()    { return width; }
+    public int getHeight()   { return height; }
+    public int getCellSize() { return cellSize; }
+
+    int clampX(int x)
+    {
+        return bounded ? Math.max(0, Math.min(width - 1, x)) : x;
+    }
+
+    int clampY(int y)
+    {
+        return bounded ? Math.max(0, Math.min(height - 1, y)) : y;
+    }
+
+    // ======================= OBJECTS =======================
+
+    public void addObject(Actor object, int x, int y)
+    {
+        if (object.world != null)
+        {
+            if (object.world == this) return;
+            object.world.removeObject(object);
+        }
+
+        object.world = this;
+        object.place(x, y);
+        actors.add(object);
+        snapshot = null;
+
+        object.addedToWorld(this);
+    }
+
+    public void removeObject(Actor object)
+    {
+        if (object == null || object.world != this) return;
+
+        actors.remove(object);
+        snapshot = null;
+        object.world = null;
+    }
+
+    public void removeObjects(Collection<? extends Actor> objects)
+    {
+        for (Actor a : new ArrayList<Actor>(objects))
+            removeObject(a);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <A> List<A> getObjects(Class<A> cls)
+    {
+        List<A> result = new ArrayList<>();
+        for (Actor a : actors)
+        {
+            if (cls == null || cls.isInstance(a))
+                result.add((A)a);
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <A> List<A> getObjectsAt(int x, int y, Class<A> cls)
+    {
+        List<A> result = new ArrayList<>();
+        for (Actor a : actors)
+        {
+            if ((cls == null || cls.isInstance(a)) && a.containsPoint(x, y))
+                result.add((A)a);
+        }
+        return result;
+    }
+
+    public int numberOfObjects()
+    {
+        return actors.size();
+    }
+
+    /** Actors at this moment; safe to iterate while actors are added or removed. */
+    Actor[] actorsSnapshot()
+    {
+        if (snapshot == null)
+            snapshot = actors.toArray(new Actor[0]);
+        return snapshot;
+    }
+
+    // ======================= ORDER =======================
+
+    public void setPaintOrder(Class<?>... classes)
+    {
+        paintOrder = (classes != null) ? classes.clone() : new Class<?>[0];
+    }
+
+    public void setActOrder(Class<?>... classes)
+    {
+        actOrder = (classes != null) ? classes.clone() : new Class<?>[0];
+    }
+
+    private static int rank(Class<?>[] order, Actor a)
+    {
+        for (int i = 0; i < order.length; i++)
+        {
+            if (order[i].isInstance(a)) return i;
+        }
+        return order.length;
+    }
+
+    /** Actors in the order they act: setActOrder classes first, then insertion order. */
+    List<Actor> actorsInActOrder()
+    {
+        List<Actor> list = new ArrayList<>(actors);
+        if (actOrder.length > 0)
+            list.sort((a, b) -> Integer.compare(rank(actOrder, a), rank(actOrder, b)));
+        return list;
+    }
+
+    /** The topmost actor drawn at (x, y), or null: paint order first, then the latest added. */
+    Actor topActorAt(int x, int y)
+    {
+        Actor best = null;
+        int bestRank = Integer.MAX_VALUE;
+        for (Actor a : actors)
+        {
+            if (!a.containsPoint(x, y)) continue;
+            int r = rank(paintOrder, a);
+            if (r <= bestRank)
+            {
+                best = a;
+                bestRank = r;
+            }
+        }
+        return best;
+    }
+
+    // ======================= BACKGROUND =======================
+
+    public GreenfootImage getBackground()
+    {
+        return background;
+    }
+
+    public void setBackground(GreenfootImage image)
+    {
+        background = image;
+    }
+
+    public void setBackground(String filename)
+    {
+        background = new GreenfootImage(filename);
+    }
+
+    public Color getColorAt(int x, int y)
+    {
+        return background.getColorAt(x, y);
+    }
+
+    public void repaint() { }
+
+    /** Text shown at a cell; kept so drivers can read it back, never drawn. */
+    public void showText(String text, int x, int y)
+    {
+        long key = ((long)x << 32) | (y & 0xffffffffL);
+        if (text == null || text.isEmpty())
+            texts.remove(key);
+        else
+            texts.put(key, text);
+    }
+
+    /** Every showText() string currently on screen. */
+    public Collection<String> getShownTexts()
+    {
+        return Collections.unmodifiableCollection(texts.values());
+    }
+}